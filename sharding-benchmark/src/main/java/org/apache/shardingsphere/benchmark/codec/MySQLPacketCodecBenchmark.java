@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.codec;
+
+import com.google.common.base.Strings;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.MySQLColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLOKPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of MySQL packet codec engine.
+ *
+ * <p>Packets are written through {@code PacketCodec} of an embedded channel, encoded buffers are released after read.</p>
+ *
+ * @author zhangliang
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MySQLPacketCodecBenchmark {
+    
+    @Param({"1", "10", "50"})
+    public int columnCount;
+    
+    @Param({"16", "1024"})
+    public int valueLength;
+    
+    private EmbeddedChannel channel;
+    
+    private MySQLOKPacket okPacket;
+    
+    private MySQLColumnDefinition41Packet columnDefinitionPacket;
+    
+    private MySQLTextResultSetRowPacket textResultSetRowPacket;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        channel = new EmbeddedChannel(new PacketCodec(new MySQLPacketCodecEngine()));
+        okPacket = new MySQLOKPacket(1, 1L, 0L);
+        columnDefinitionPacket = new MySQLColumnDefinition41Packet(1, "sharding_db", "t_order", "t_order_0", "status", "status", valueLength, MySQLColumnType.MYSQL_TYPE_VAR_STRING, 0);
+        List<Object> data = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            data.add(Strings.repeat("x", valueLength));
+        }
+        textResultSetRowPacket = new MySQLTextResultSetRowPacket(1, data);
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Encode OK packet.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public int encodeOKPacket() {
+        return encode(okPacket);
+    }
+    
+    /**
+     * Encode column definition packet.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public int encodeColumnDefinitionPacket() {
+        return encode(columnDefinitionPacket);
+    }
+    
+    /**
+     * Encode text result set row packet.
+     *
+     * @return encoded bytes
+     */
+    @Benchmark
+    public int encodeTextResultSetRowPacket() {
+        return encode(textResultSetRowPacket);
+    }
+    
+    private int encode(final MySQLPacket packet) {
+        channel.writeOutbound(packet);
+        ByteBuf encoded = channel.readOutbound();
+        try {
+            return encoded.readableBytes();
+        } finally {
+            encoded.release();
+        }
+    }
+}
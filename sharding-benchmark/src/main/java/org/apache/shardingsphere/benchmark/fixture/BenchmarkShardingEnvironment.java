@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding environment of benchmarks.
+ *
+ * <p>
+ * Binding tables {@code t_order} and {@code t_order_item} are sharded into {@code ds_0} and {@code ds_1} by {@code user_id},
+ * and into 2 actual tables of each data source by {@code order_id}.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class BenchmarkShardingEnvironment {
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final SQLParseEngine parseEngine;
+    
+    public BenchmarkShardingEnvironment(final String databaseType) {
+        shardingRule = createShardingRule();
+        metaData = new ShardingSphereMetaData(createDataSourceMetas(databaseType), createTableMetas());
+        parseEngine = new SQLParseEngine(DatabaseTypes.getTrunkDatabaseType(databaseType));
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order"));
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item"));
+        shardingRuleConfig.getBindingTableGroups().add("t_order,t_order_item");
+        return new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private TableRuleConfiguration createTableRuleConfiguration(final String logicTable) {
+        TableRuleConfiguration result = new TableRuleConfiguration(logicTable, "ds_${0..1}." + logicTable + "_${0..1}");
+        result.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", logicTable + "_${order_id % 2}"));
+        return result;
+    }
+    
+    private DataSourceMetas createDataSourceMetas(final String databaseType) {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(2, 1);
+        dataSourceURLs.put("ds_0", getURL(databaseType, "ds_0"));
+        dataSourceURLs.put("ds_1", getURL(databaseType, "ds_1"));
+        return new DataSourceMetas(dataSourceURLs, DatabaseTypes.getActualDatabaseType(databaseType));
+    }
+    
+    private String getURL(final String databaseType, final String dataSourceName) {
+        switch (databaseType) {
+            case "PostgreSQL":
+                return "jdbc:postgresql://127.0.0.1:5432/" + dataSourceName;
+            case "Oracle":
+                return "jdbc:oracle:thin:@127.0.0.1:1521:" + dataSourceName;
+            case "SQLServer":
+                return "jdbc:sqlserver://127.0.0.1:1433;DatabaseName=" + dataSourceName;
+            default:
+                return "jdbc:mysql://127.0.0.1:3306/" + dataSourceName;
+        }
+    }
+    
+    private TableMetas createTableMetas() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(2, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true), 
+                new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        tableMetaDataMap.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "int", true), new ColumnMetaData("order_id", "int", false), 
+                new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        return new TableMetas(tableMetaDataMap);
+    }
+    
+    /**
+     * Route SQL.
+     *
+     * @param sql SQL
+     * @param parameters parameters of SQL
+     * @return SQL route result
+     */
+    public SQLRouteResult route(final String sql, final List<Object> parameters) {
+        return new PreparedStatementRoutingEngine(sql, shardingRule, metaData, parseEngine).route(parameters);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Statement shapes of sharding benchmarks.
+ *
+ * @author zhangliang
+ */
+public enum ShardingStatementShape {
+    
+    POINT("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", 1, 1),
+    
+    IN("SELECT order_id, user_id, status FROM t_order WHERE user_id IN (?, ?) AND order_id IN (?, ?)", 1, 2, 1, 2),
+    
+    SCAN("SELECT order_id, user_id, status FROM t_order WHERE status = ?", "init"),
+    
+    BINDING("SELECT o.order_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.order_id = ?", 1, 1),
+    
+    INSERT("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)", 1, 1, "init"),
+    
+    UPDATE("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", "paid", 1, 1);
+    
+    @Getter
+    private final String sql;
+    
+    private final Object[] parameters;
+    
+    ShardingStatementShape(final String sql, final Object... parameters) {
+        this.sql = sql;
+        this.parameters = parameters;
+    }
+    
+    /**
+     * Get parameters of SQL.
+     *
+     * @return new parameters list of SQL, which can be modified by route and rewrite
+     */
+    public List<Object> getParameters() {
+        return new ArrayList<>(Arrays.asList(parameters));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of DQL merge engine.
+ *
+ * <p>Full scan of {@code t_order} is routed to 4 actual tables, each of them returns sorted rows from memory.</p>
+ *
+ * @author zhangliang
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DQLMergeBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL"})
+    public String databaseType;
+    
+    @Param({"ITERATOR", "ORDER_BY", "GROUP_BY", "PAGINATION"})
+    public MergeStatementShape statementShape;
+    
+    @Param({"100", "1000"})
+    public int rowsPerShard;
+    
+    private DatabaseType actualDatabaseType;
+    
+    private TableMetas tableMetas;
+    
+    private SQLRouteResult routeResult;
+    
+    private List<List<List<Object>>> shardRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkShardingEnvironment environment = new BenchmarkShardingEnvironment(databaseType);
+        actualDatabaseType = DatabaseTypes.getActualDatabaseType(databaseType);
+        tableMetas = environment.getMetaData().getTables();
+        routeResult = environment.route(statementShape.getSql(), Collections.emptyList());
+        int shardCount = routeResult.getRoutingResult().getRoutingUnits().size();
+        shardRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardRows.add(createRows(i, shardCount));
+        }
+    }
+    
+    private List<List<Object>> createRows(final int shardIndex, final int shardCount) {
+        List<List<Object>> result = new ArrayList<>(rowsPerShard);
+        for (int i = 0; i < rowsPerShard; i++) {
+            List<Object> row = new ArrayList<>(statementShape.getColumnLabels().size());
+            for (String each : statementShape.getColumnLabels()) {
+                row.add(createValue(each, i * shardCount + shardIndex, i));
+            }
+            result.add(row);
+        }
+        return result;
+    }
+    
+    private Object createValue(final String columnLabel, final long orderId, final long userId) {
+        switch (columnLabel) {
+            case "order_id":
+                return orderId;
+            case "user_id":
+                return userId;
+            case "order_count":
+                return 1L;
+            default:
+                return "init";
+        }
+    }
+    
+    /**
+     * Merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardRows.size());
+        for (List<List<Object>> each : shardRows) {
+            queryResults.add(new InMemoryQueryResult(statementShape.getColumnLabels(), each));
+        }
+        MergedResult mergedResult = new DQLMergeEngine(actualDatabaseType, tableMetas, routeResult, queryResults).merge();
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
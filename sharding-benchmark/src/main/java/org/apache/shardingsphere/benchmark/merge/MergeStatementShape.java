@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Statement shapes of merge benchmark.
+ *
+ * @author zhangliang
+ */
+@Getter
+public enum MergeStatementShape {
+    
+    ITERATOR("SELECT order_id, user_id, status FROM t_order", "order_id", "user_id", "status"),
+    
+    ORDER_BY("SELECT order_id, user_id, status FROM t_order ORDER BY order_id", "order_id", "user_id", "status"),
+    
+    GROUP_BY("SELECT user_id, COUNT(order_id) AS order_count FROM t_order GROUP BY user_id ORDER BY user_id", "user_id", "order_count"),
+    
+    PAGINATION("SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT 10 OFFSET 10", "order_id", "user_id", "status");
+    
+    private final String sql;
+    
+    private final List<String> columnLabels;
+    
+    MergeStatementShape(final String sql, final String... columnLabels) {
+        this.sql = sql;
+        this.columnLabels = Arrays.asList(columnLabels);
+    }
+}
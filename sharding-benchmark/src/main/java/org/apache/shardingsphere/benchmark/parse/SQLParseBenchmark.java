@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parse;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
+import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of SQL parse engine.
+ *
+ * <p>SQL of SQL cases corpus are grouped by dialect and statement shape, which is the prefix of SQL case ID, and parsed round robin.</p>
+ *
+ * @author zhangliang
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SQLParseBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    public String databaseType;
+    
+    @Param({"select", "insert", "update", "delete", "create", "alter"})
+    public String statementShape;
+    
+    @Param({"false", "true"})
+    public boolean useCache;
+    
+    private SQLParseEngine parseEngine;
+    
+    private String[] sqls;
+    
+    private int index;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        parseEngine = new SQLParseEngine(DatabaseTypes.getTrunkDatabaseType(databaseType));
+        sqls = loadSQLs();
+        Preconditions.checkState(0 != sqls.length, "Can not find SQL cases of `%s` for `%s`.", statementShape, databaseType);
+    }
+    
+    private String[] loadSQLs() {
+        SQLCasesLoader sqlCasesLoader = ShardingSQLCasesRegistry.getInstance().getSqlCasesLoader();
+        Set<String> result = new LinkedHashSet<>();
+        for (Object[] each : sqlCasesLoader.getSQLTestParameters()) {
+            String sqlCaseId = each[0].toString();
+            if (sqlCaseId.startsWith(statementShape + "_") && databaseType.equals(each[1])) {
+                result.add(sqlCasesLoader.getSQL(sqlCaseId, SQLCaseType.Placeholder, Collections.emptyList()));
+            }
+        }
+        return result.toArray(new String[result.size()]);
+    }
+    
+    /**
+     * Parse SQL.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        String sql = sqls[index];
+        index = (index + 1) % sqls.length;
+        return parseEngine.parse(sql, useCache);
+    }
+}
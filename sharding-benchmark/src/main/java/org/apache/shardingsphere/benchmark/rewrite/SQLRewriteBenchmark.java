@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.ShardingStatementShape;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.BindingTableRule;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of SQL rewrite engine.
+ *
+ * <p>Each invocation generates SQL tokens once and builds rewritten SQL for every routing unit, as sharding engine does.</p>
+ *
+ * @author zhangliang
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SQLRewriteBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    public String databaseType;
+    
+    @Param({"POINT", "IN", "SCAN", "BINDING", "INSERT", "UPDATE"})
+    public ShardingStatementShape statementShape;
+    
+    private ShardingRule shardingRule;
+    
+    private TableMetas tableMetas;
+    
+    private SQLRouteResult routeResult;
+    
+    private List<Object> parameters;
+    
+    private Map<RoutingUnit, Map<String, String>> logicAndActualTables;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkShardingEnvironment environment = new BenchmarkShardingEnvironment(databaseType);
+        shardingRule = environment.getShardingRule();
+        tableMetas = environment.getMetaData().getTables();
+        parameters = statementShape.getParameters();
+        routeResult = environment.route(statementShape.getSql(), parameters);
+        logicAndActualTables = new LinkedHashMap<>();
+        for (RoutingUnit each : routeResult.getRoutingResult().getRoutingUnits()) {
+            logicAndActualTables.put(each, getLogicAndActualTables(each, routeResult.getSqlStatementContext().getTablesContext().getTableNames()));
+        }
+    }
+    
+    private Map<String, String> getLogicAndActualTables(final RoutingUnit routingUnit, final Collection<String> parsedTableNames) {
+        Map<String, String> result = new HashMap<>();
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            result.put(each.getLogicTableName().toLowerCase(), each.getActualTableName());
+            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each.getLogicTableName());
+            if (!bindingTableRule.isPresent()) {
+                continue;
+            }
+            for (String tableName : parsedTableNames) {
+                if (!tableName.equalsIgnoreCase(each.getLogicTableName()) && bindingTableRule.get().hasLogicTable(tableName)) {
+                    result.put(tableName.toLowerCase(), 
+                            bindingTableRule.get().getBindingActualTable(routingUnit.getMasterSlaveLogicDataSourceName(), tableName, each.getActualTableName()));
+                }
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Rewrite.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, tableMetas, routeResult, statementShape.getSql(), parameters, false);
+        for (Entry<RoutingUnit, Map<String, String>> entry : logicAndActualTables.entrySet()) {
+            blackhole.consume(rewriteEngine.generateSQL(entry.getKey(), entry.getValue()));
+        }
+    }
+}
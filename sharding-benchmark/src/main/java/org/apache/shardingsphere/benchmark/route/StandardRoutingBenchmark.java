@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.ShardingStatementShape;
+import org.apache.shardingsphere.core.optimize.statement.SQLStatementContext;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.standard.StandardRoutingEngine;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of standard routing engine.
+ *
+ * <p>SQL is parsed and sharding conditions are extracted in set up, so only routing of {@code t_order} is measured.</p>
+ *
+ * @author zhangliang
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StandardRoutingBenchmark {
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    public String databaseType;
+    
+    @Param({"POINT", "IN", "SCAN", "BINDING", "INSERT", "UPDATE"})
+    public ShardingStatementShape statementShape;
+    
+    private ShardingRule shardingRule;
+    
+    private SQLStatementContext sqlStatementContext;
+    
+    private ShardingConditions shardingConditions;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkShardingEnvironment environment = new BenchmarkShardingEnvironment(databaseType);
+        SQLRouteResult routeResult = environment.route(statementShape.getSql(), statementShape.getParameters());
+        shardingRule = environment.getShardingRule();
+        sqlStatementContext = routeResult.getSqlStatementContext();
+        shardingConditions = routeResult.getShardingConditions();
+    }
+    
+    /**
+     * Route.
+     *
+     * @return routing result
+     */
+    @Benchmark
+    public RoutingResult route() {
+        return new StandardRoutingEngine(shardingRule, "t_order", sqlStatementContext, shardingConditions).route();
+    }
+}
@@ -53,6 +53,60 @@ public enum ShardingPropertiesConstant {
      */
     SQL_SIMPLE("sql.simple", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Enable or Disable to parse SQL with SLL prediction mode first.
+     *
+     * <p>
+     * SLL prediction mode is faster than LL prediction mode, SQL will be parsed again with LL prediction mode if SLL prediction failed or met a conflict,
+     * so the parse result is the same as LL prediction mode.
+     * Default: false
+     * </p>
+     */
+    SQL_PARSER_SLL_PREDICTION_ENABLED("sql.parser.sll.prediction.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable to warm up SQL parser when startup.
+     *
+     * <p>
+     * Warm up parses representative SQLs to build prediction DFA of SQL parser,
+     * so latency of first SQLs after startup is same as steady state.
+     * Default: false
+     * </p>
+     */
+    SQL_PARSER_WARM_UP_ENABLED("sql.parser.warm.up.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of route result cache for each prepared statement.
+     *
+     * <p>
+     * Route result cache reuses routing and rewriting result of prepared statement which executed with same parameters before.
+     * Only for DQL, UPDATE and DELETE without master-slave rule and hint sharding strategy.
+     * Routing hooks are still notified on cache hit, but route and rewrite stage timing only cover cache misses.
+     * Default: 0, means disable route result cache.
+     * </p>
+     */
+    PREPARED_STATEMENT_ROUTE_CACHE_SIZE("prepared.statement.route.cache.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max rows of group by memory merge kept in memory.
+     *
+     * <p>
+     * Rows exceed it are spilled into temporary files and merged by external merge sort.
+     * Default: 0, means unbounded.
+     * </p>
+     */
+    MEMORY_MERGE_MAX_ROWS("memory.merge.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Enable metrics of SQL lifecycle.
+     *
+     * <p>
+     * Latencies of parse, route, rewrite, connection acquire, execute, merge and encode, and counters of SQL lifecycle are recorded in memory.
+     * Default: false.
+     * </p>
+     */
+    METRICS_ENABLED("metrics.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Worker group or user group thread max size.
      *
@@ -87,9 +141,61 @@ public enum ShardingPropertiesConstant {
     QUERY_WITH_CIPHER_COLUMN("query.with.cipher.column", String.valueOf(Boolean.TRUE), boolean.class),
     
     /**
-     * Sharding-Proxy's flush threshold for every records from databases.
+     * Sharding-Proxy's acceptor threads count.
+     * 
+     * <p>Each acceptor binds the same port with SO_REUSEPORT when epoll is available, only one acceptor is used with NIO transport.</p>
      */
-    PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
+    PROXY_FRONTEND_ACCEPTOR_THREADS("proxy.frontend.acceptor.threads", String.valueOf(1), int.class),
+    
+    /**
+     * Sharding-Proxy's worker event loop threads count.
+     * 
+     * <p>0 means CPU cores * 2.</p>
+     */
+    PROXY_FRONTEND_WORKER_THREADS("proxy.frontend.worker.threads", String.valueOf(0), int.class),
+    
+    /**
+     * Sharding-Proxy's backlog of pending connections to be accepted.
+     */
+    PROXY_FRONTEND_BACKLOG("proxy.frontend.backlog", String.valueOf(128), int.class),
+    
+    /**
+     * Sharding-Proxy's low water mark of frontend channel write buffer.
+     * 
+     * <p>Default: 32KB, the same as netty's default of client channels.</p>
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK("proxy.frontend.write.buffer.low.water.mark", String.valueOf(32 * 1024), int.class),
+    
+    /**
+     * Sharding-Proxy's high water mark of frontend channel write buffer.
+     * 
+     * <p>
+     * Frontend channel becomes unwritable when bytes pending in its write buffer exceed the high water mark.
+     * Default: 64KB, the same as netty's default of client channels, every client channel may hold that many pending bytes before streaming is suspended.
+     * </p>
+     */
+    PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK("proxy.frontend.write.buffer.high.water.mark", String.valueOf(64 * 1024), int.class),
+    
+    /**
+     * Sharding-Proxy's flush threshold of bytes pending in frontend channel.
+     * 
+     * <p>Pending bytes are flushed immediately once they reach the threshold, otherwise flushes are consolidated and deferred.</p>
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy.frontend.flush.bytes.threshold", String.valueOf(32 * 1024), int.class),
+    
+    /**
+     * Sharding-Proxy's max delay milliseconds of deferred flushes.
+     * 
+     * <p>0 means deferred flushes are performed once frontend event loop finishes writes already queued.</p>
+     */
+    PROXY_FRONTEND_FLUSH_DELAY_MILLISECONDS("proxy.frontend.flush.delay.milliseconds", String.valueOf(0), int.class),
+    
+    /**
+     * Max count of binary prepared statements for each connection of Sharding-Proxy.
+     * 
+     * <p>Least recently used prepared statement will be evicted if the count exceeds it.</p>
+     */
+    PROXY_FRONTEND_MAX_PREPARED_STATEMENTS("proxy.frontend.max.prepared.statements", String.valueOf(1024), int.class),
     
     /**
      * Transaction type of proxy.
@@ -115,12 +221,59 @@ public enum ShardingPropertiesConstant {
      * Enable opentracing for Sharding-Proxy.
      */
     PROXY_OPENTRACING_ENABLED("proxy.opentracing.enabled", String.valueOf(Boolean.FALSE), boolean.class),
-
+    
     /**
      * Enable hint for Sharding-Proxy.
      */
     PROXY_HINT_ENABLED("proxy.hint.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Enable virtual threads to execute commands of Sharding-Proxy.
+     * 
+     * <p>
+     * Commands are executed by virtual threads instead of platform threads, including the dedicated thread of each XA, BASE or hint connection.
+     * Commands executed concurrently are still bounded by {@code acceptor.size}.
+     * Virtual thread is supported since JDK 21, platform threads are still used by lower JDK versions.
+     * </p>
+     * 
+     * <p>
+     * Virtual thread is pinned to its carrier thread while blocking in monitors before JDK 24.
+     * Backend connection acquiring and closing of Sharding-Proxy use locks instead of monitors, but monitors of JDBC drivers, connection pools
+     * and XA transaction managers, and of configuration renewing, still pin carrier threads while they block.
+     * </p>
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy.frontend.virtual.thread.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable batch execution of pipelined commands of Sharding-Proxy.
+     * 
+     * <p>
+     * Pipelined INSERT, UPDATE and DELETE statements received together are routed up front,
+     * and statements routed to the same data source are sent to backend within one JDBC batch.
+     * </p>
+     */
+    PROXY_FRONTEND_PIPELINED_BATCH_ENABLED("proxy.frontend.pipelined.batch.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Port of metrics endpoint of Sharding-Proxy.
+     *
+     * <p>
+     * Metrics are served in Prometheus text format by HTTP path {@code /metrics}.
+     * Default: 0, means metrics endpoint is disabled.
+     * </p>
+     */
+    PROXY_METRICS_PORT("proxy.metrics.port", String.valueOf(0), int.class),
+    
+    /**
+     * Host of metrics endpoint of Sharding-Proxy.
+     *
+     * <p>
+     * Default: 127.0.0.1, means metrics endpoint is only reachable from local host.
+     * Use 0.0.0.0 to serve metrics on all network interfaces.
+     * </p>
+     */
+    PROXY_METRICS_HOST("proxy.metrics.host", "127.0.0.1", String.class),
+    
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", String.valueOf(8), int.class),
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
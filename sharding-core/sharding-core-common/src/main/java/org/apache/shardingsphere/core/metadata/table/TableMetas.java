@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Table metas.
@@ -36,6 +37,8 @@ public final class TableMetas {
     
     private final Map<String, TableMetaData> tables;
     
+    private final AtomicLong version = new AtomicLong();
+    
     public TableMetas(final Map<String, TableMetaData> tables) {
         this.tables = new ConcurrentHashMap<>(tables);
     }
@@ -57,6 +60,7 @@ public final class TableMetas {
      */
     public void put(final String logicTableName, final TableMetaData tableMetaData) {
         tables.put(logicTableName, tableMetaData);
+        version.incrementAndGet();
     }
     
     /**
@@ -66,6 +70,7 @@ public final class TableMetas {
      */
     public void remove(final String logicTableName) {
         tables.remove(logicTableName);
+        version.incrementAndGet();
     }
     
     /**
@@ -107,4 +112,15 @@ public final class TableMetas {
     public Collection<String> getAllTableNames() {
         return tables.keySet();
     }
+    
+    /**
+     * Get version of table metas.
+     * 
+     * <p>Version increases when table meta data is added or removed.</p>
+     * 
+     * @return version of table metas
+     */
+    public long getVersion() {
+        return version.get();
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Built-in metrics tracker, which keeps latency histograms and counters in memory.
+ *
+ * @author zhangliang
+ */
+public final class HistogramMetricsTracker implements MetricsTracker {
+    
+    private final Map<MetricsStage, LatencyHistogram> histograms = new EnumMap<>(MetricsStage.class);
+    
+    private final Map<MetricsCounter, AtomicLong> counters = new EnumMap<>(MetricsCounter.class);
+    
+    public HistogramMetricsTracker() {
+        for (MetricsStage each : MetricsStage.values()) {
+            histograms.put(each, new LatencyHistogram());
+        }
+        for (MetricsCounter each : MetricsCounter.values()) {
+            counters.put(each, new AtomicLong());
+        }
+    }
+    
+    @Override
+    public void recordLatency(final MetricsStage stage, final long nanos) {
+        histograms.get(stage).record(nanos);
+    }
+    
+    @Override
+    public void recordCount(final MetricsCounter counter, final long delta) {
+        counters.get(counter).addAndGet(delta);
+    }
+    
+    /**
+     * Get snapshot of metrics.
+     *
+     * @return snapshot of metrics
+     */
+    public MetricsSnapshot getSnapshot() {
+        Map<MetricsStage, HistogramSnapshot> latencySnapshots = new EnumMap<>(MetricsStage.class);
+        for (Entry<MetricsStage, LatencyHistogram> entry : histograms.entrySet()) {
+            latencySnapshots.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        Map<MetricsCounter, Long> counterValues = new EnumMap<>(MetricsCounter.class);
+        for (Entry<MetricsCounter, AtomicLong> entry : counters.entrySet()) {
+            counterValues.put(entry.getKey(), entry.getValue().get());
+        }
+        return new MetricsSnapshot(latencySnapshots, counterValues);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import lombok.Getter;
+
+/**
+ * Snapshot of latency histogram.
+ *
+ * @author zhangliang
+ */
+public final class HistogramSnapshot {
+    
+    private final long[] counts;
+    
+    @Getter
+    private final long totalCount;
+    
+    @Getter
+    private final long sum;
+    
+    public HistogramSnapshot(final long[] counts, final long sum) {
+        this.counts = counts;
+        this.sum = sum;
+        long count = 0L;
+        for (long each : counts) {
+            count += each;
+        }
+        totalCount = count;
+    }
+    
+    /**
+     * Get value at percentile.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return highest equivalent value of the bucket which percentile falls in, or 0 if nothing recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (0L == totalCount) {
+            return 0L;
+        }
+        long targetCount = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100D) / 100D * totalCount));
+        long count = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= targetCount) {
+                return LatencyHistogram.getHighestValue(i);
+            }
+        }
+        return getMaxValue();
+    }
+    
+    /**
+     * Get minimum value.
+     *
+     * @return lowest equivalent value of minimum recorded value, or 0 if nothing recorded
+     */
+    public long getMinValue() {
+        for (int i = 0; i < counts.length; i++) {
+            if (0L != counts[i]) {
+                return LatencyHistogram.getLowestValue(i);
+            }
+        }
+        return 0L;
+    }
+    
+    /**
+     * Get maximum value.
+     *
+     * @return highest equivalent value of maximum recorded value, or 0 if nothing recorded
+     */
+    public long getMaxValue() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (0L != counts[i]) {
+                return LatencyHistogram.getHighestValue(i);
+            }
+        }
+        return 0L;
+    }
+    
+    /**
+     * Get mean value.
+     *
+     * @return mean value, or 0 if nothing recorded
+     */
+    public double getMean() {
+        return 0L == totalCount ? 0D : (double) sum / totalCount;
+    }
+    
+    /**
+     * Get difference from previous snapshot of the same histogram.
+     *
+     * @param previous previous snapshot
+     * @return snapshot of values recorded after previous snapshot
+     */
+    public HistogramSnapshot minus(final HistogramSnapshot previous) {
+        long[] result = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            result[i] = counts[i] - previous.counts[i];
+        }
+        return new HistogramSnapshot(result, sum - previous.sum);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram.
+ *
+ * <p>
+ * Buckets are log-linear like HDR histogram: values less than 128 have their own buckets,
+ * and every power of 2 above is divided into 64 linear buckets, so relative error of any recorded value is less than 1/64.
+ * All buckets of positive long values take 3712 slots, recording is one atomic increment without allocation or lock.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class LatencyHistogram {
+    
+    static final int BUCKET_COUNT = getBucketIndex(Long.MAX_VALUE) + 1;
+    
+    private static final int SUB_BUCKET_BITS = 7;
+    
+    private static final int HALF_SUB_BUCKET_BITS = SUB_BUCKET_BITS - 1;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final AtomicLong sum = new AtomicLong();
+    
+    /**
+     * Record value.
+     *
+     * @param value value to be recorded, negative value is recorded as 0
+     */
+    public void record(final long value) {
+        long actualValue = Math.max(0L, value);
+        counts.incrementAndGet(getBucketIndex(actualValue));
+        sum.addAndGet(actualValue);
+    }
+    
+    /**
+     * Get snapshot of histogram.
+     *
+     * @return snapshot of histogram
+     */
+    public HistogramSnapshot snapshot() {
+        long[] result = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            result[i] = counts.get(i);
+        }
+        return new HistogramSnapshot(result, sum.get());
+    }
+    
+    static int getBucketIndex(final long value) {
+        int shift = Math.max(0, Long.SIZE - SUB_BUCKET_BITS - Long.numberOfLeadingZeros(value));
+        return (shift << HALF_SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+    
+    static long getLowestValue(final int bucketIndex) {
+        int shift = Math.max(0, (bucketIndex >> HALF_SUB_BUCKET_BITS) - 1);
+        return (long) (bucketIndex - (shift << HALF_SUB_BUCKET_BITS)) << shift;
+    }
+    
+    static long getHighestValue(final int bucketIndex) {
+        int shift = Math.max(0, (bucketIndex >> HALF_SUB_BUCKET_BITS) - 1);
+        return getLowestValue(bucketIndex) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Snapshot of metrics.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MetricsSnapshot {
+    
+    private final Map<MetricsStage, HistogramSnapshot> latencies;
+    
+    private final Map<MetricsCounter, Long> counters;
+    
+    /**
+     * Get difference from previous snapshot.
+     *
+     * @param previous previous snapshot
+     * @return snapshot of metrics recorded after previous snapshot
+     */
+    public MetricsSnapshot minus(final MetricsSnapshot previous) {
+        Map<MetricsStage, HistogramSnapshot> latencyDifferences = new EnumMap<>(MetricsStage.class);
+        for (Entry<MetricsStage, HistogramSnapshot> entry : latencies.entrySet()) {
+            latencyDifferences.put(entry.getKey(), entry.getValue().minus(previous.latencies.get(entry.getKey())));
+        }
+        Map<MetricsCounter, Long> counterDifferences = new EnumMap<>(MetricsCounter.class);
+        for (Entry<MetricsCounter, Long> entry : counters.entrySet()) {
+            counterDifferences.put(entry.getKey(), entry.getValue() - previous.counters.get(entry.getKey()));
+        }
+        return new MetricsSnapshot(latencyDifferences, counterDifferences);
+    }
+}
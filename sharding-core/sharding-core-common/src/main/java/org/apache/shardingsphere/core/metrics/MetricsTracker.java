@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+/**
+ * Metrics tracker.
+ *
+ * <p>
+ * Built-in tracker is always present, more trackers can be registered by {@code META-INF/services}, e.g. to bridge with other metrics libraries.
+ * Trackers are shared by all threads, implementations must be thread safe and should not block.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public interface MetricsTracker {
+    
+    /**
+     * Record latency of stage.
+     *
+     * @param stage stage of SQL lifecycle
+     * @param nanos elapsed nanoseconds
+     */
+    void recordLatency(MetricsStage stage, long nanos);
+    
+    /**
+     * Record count.
+     *
+     * @param counter counter of SQL lifecycle
+     * @param delta delta of count
+     */
+    void recordCount(MetricsCounter counter, long delta);
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatter of metrics in Prometheus text exposition format.
+ *
+ * <p>
+ * Latencies are exposed as summaries in seconds, counters are exposed with suffix {@code _total}.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrometheusMetricsFormatter {
+    
+    private static final String LATENCY_NAME = "shardingsphere_stage_latency_seconds";
+    
+    private static final String COUNTER_NAME_PREFIX = "shardingsphere_";
+    
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1L);
+    
+    /**
+     * Format metrics snapshot.
+     *
+     * @param snapshot metrics snapshot
+     * @return metrics in Prometheus text exposition format
+     */
+    public static String format(final MetricsSnapshot snapshot) {
+        StringBuilder result = new StringBuilder();
+        appendType(result, LATENCY_NAME, "summary");
+        for (Entry<MetricsStage, HistogramSnapshot> entry : snapshot.getLatencies().entrySet()) {
+            appendSummary(result, entry.getKey().name().toLowerCase(), entry.getValue());
+        }
+        for (Entry<MetricsCounter, Long> entry : snapshot.getCounters().entrySet()) {
+            appendCounter(result, COUNTER_NAME_PREFIX + entry.getKey().name().toLowerCase() + "_total", entry.getValue());
+        }
+        return result.toString();
+    }
+    
+    private static void appendSummary(final StringBuilder builder, final String stage, final HistogramSnapshot histogram) {
+        String labels = "stage=\"" + stage + "\"";
+        for (double each : QUANTILES) {
+            appendSample(builder, LATENCY_NAME, labels + ",quantile=\"" + each + "\"", histogram.getValueAtPercentile(each * 100) / NANOS_PER_SECOND);
+        }
+        appendSample(builder, LATENCY_NAME + "_sum", labels, histogram.getSum() / NANOS_PER_SECOND);
+        appendSample(builder, LATENCY_NAME + "_count", labels, histogram.getTotalCount());
+    }
+    
+    private static void appendCounter(final StringBuilder builder, final String name, final long value) {
+        appendType(builder, name, "counter");
+        appendSample(builder, name, "", value);
+    }
+    
+    /**
+     * Append type of metric.
+     *
+     * @param builder string builder
+     * @param name name of metric
+     * @param type type of metric, such as {@code counter} or {@code gauge}
+     */
+    public static void appendType(final StringBuilder builder, final String name, final String type) {
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+    
+    /**
+     * Append sample of metric.
+     *
+     * @param builder string builder
+     * @param name name of metric
+     * @param labels labels of sample, e.g. {@code name="Worker-0"}, or empty string for no label
+     * @param value value of sample
+     */
+    public static void appendSample(final StringBuilder builder, final String name, final String labels, final Number value) {
+        builder.append(name);
+        if (!labels.isEmpty()) {
+            builder.append('{').append(labels).append('}');
+        }
+        builder.append(' ').append(value).append('\n');
+    }
+}
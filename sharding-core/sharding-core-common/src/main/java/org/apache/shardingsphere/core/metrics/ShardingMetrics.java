@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.ServiceLoader;
+
+/**
+ * Metrics of SQL lifecycle.
+ *
+ * <p>
+ * Nothing is recorded until metrics are enabled, disabled metrics cost one volatile read for every observation point.
+ * Latencies are recorded in nanoseconds, route latency excludes parse latency of the same SQL.
+ * Metrics are process-wide, runtime contexts enabling metrics are counted, and metrics keep enabled until the last of them is closed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ShardingMetrics {
+    
+    private static final ShardingMetrics INSTANCE = new ShardingMetrics();
+    
+    private static final ThreadLocal<long[]> PARSE_NANOS = new ThreadLocal<long[]>() {
+        
+        @Override
+        protected long[] initialValue() {
+            return new long[1];
+        }
+    };
+    
+    private final HistogramMetricsTracker histogramMetricsTracker = new HistogramMetricsTracker();
+    
+    private final Collection<MetricsTracker> metricsTrackers = new LinkedList<>();
+    
+    @Getter
+    @Setter
+    private volatile boolean enabled;
+    
+    private int enabledContexts;
+    
+    private ShardingMetrics() {
+        metricsTrackers.add(histogramMetricsTracker);
+        for (MetricsTracker each : ServiceLoader.load(MetricsTracker.class)) {
+            metricsTrackers.add(each);
+        }
+    }
+    
+    /**
+     * Get instance of sharding metrics.
+     *
+     * @return instance of sharding metrics
+     */
+    public static ShardingMetrics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Enable metrics for runtime context.
+     */
+    public synchronized void enableForContext() {
+        enabledContexts++;
+        enabled = true;
+    }
+    
+    /**
+     * Disable metrics for closed runtime context.
+     *
+     * <p>Metrics are disabled only if no other runtime context enabling metrics is open.</p>
+     */
+    public synchronized void disableForContext() {
+        if (0 == enabledContexts) {
+            return;
+        }
+        enabledContexts--;
+        if (0 == enabledContexts) {
+            enabled = false;
+        }
+    }
+    
+    /**
+     * Start timing.
+     *
+     * @return current nanoseconds if enabled, otherwise 0
+     */
+    public long startTiming() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+    
+    /**
+     * Finish timing and record latency of stage.
+     *
+     * @param stage stage of SQL lifecycle
+     * @param startNanos nanoseconds returned by {@code startTiming}
+     */
+    public void finishTiming(final MetricsStage stage, final long startNanos) {
+        finishTiming(stage, startNanos, 0L);
+    }
+    
+    /**
+     * Finish timing and record latency of stage.
+     *
+     * @param stage stage of SQL lifecycle
+     * @param startNanos nanoseconds returned by {@code startTiming}
+     * @param excludedNanos nanoseconds of nested stages which are recorded separately
+     */
+    public void finishTiming(final MetricsStage stage, final long startNanos, final long excludedNanos) {
+        if (!enabled || 0L == startNanos) {
+            return;
+        }
+        long nanos = System.nanoTime() - startNanos - excludedNanos;
+        if (MetricsStage.PARSE == stage) {
+            PARSE_NANOS.get()[0] += nanos;
+        }
+        for (MetricsTracker each : metricsTrackers) {
+            each.recordLatency(stage, nanos);
+        }
+    }
+    
+    /**
+     * Get accumulated parse nanoseconds of current thread.
+     *
+     * <p>Parsing is nested in routing, the difference of this value before and after routing is excluded from route latency.</p>
+     *
+     * @return accumulated parse nanoseconds of current thread if enabled, otherwise 0
+     */
+    public long getParseNanosOfCurrentThread() {
+        return enabled ? PARSE_NANOS.get()[0] : 0L;
+    }
+    
+    /**
+     * Record count.
+     *
+     * @param counter counter of SQL lifecycle
+     * @param delta delta of count
+     */
+    public void recordCount(final MetricsCounter counter, final long delta) {
+        if (!enabled) {
+            return;
+        }
+        for (MetricsTracker each : metricsTrackers) {
+            each.recordCount(counter, delta);
+        }
+    }
+    
+    /**
+     * Get snapshot of built-in metrics.
+     *
+     * @return snapshot of built-in metrics
+     */
+    public MetricsSnapshot getSnapshot() {
+        return histogramMetricsTracker.getSnapshot();
+    }
+}
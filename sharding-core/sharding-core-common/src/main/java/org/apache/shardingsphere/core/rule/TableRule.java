@@ -47,7 +47,7 @@ import java.util.Set;
  * @author zhangliang
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDatasourceNames", "datasourceToTablesMap"})
+@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDatasourceNames", "datasourceToTablesMap", "datasourceToDataNodesMap"})
 public final class TableRule {
     
     private final String logicTable;
@@ -72,6 +72,9 @@ public final class TableRule {
     
     private final Map<String, Collection<String>> datasourceToTablesMap = new HashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, DataNode>> datasourceToDataNodesMap = new HashMap<>();
+    
     public TableRule(final String defaultDataSourceName, final String logicTableName) {
         logicTable = logicTableName.toLowerCase();
         actualDataNodes = Collections.singletonList(new DataNode(defaultDataSourceName, logicTableName));
@@ -112,7 +115,7 @@ public final class TableRule {
     private void cacheActualDatasourcesAndTables() {
         for (DataNode each : actualDataNodes) {
             actualDatasourceNames.add(each.getDataSourceName());
-            addActualTable(each.getDataSourceName(), each.getTableName());
+            addActualTable(each);
         }
     }
     
@@ -124,13 +127,19 @@ public final class TableRule {
         return result;
     }
     
-    private void addActualTable(final String datasourceName, final String tableName) {
-        Collection<String> actualTables = datasourceToTablesMap.get(datasourceName);
+    private void addActualTable(final DataNode dataNode) {
+        Collection<String> actualTables = datasourceToTablesMap.get(dataNode.getDataSourceName());
+        Map<String, DataNode> dataNodes = datasourceToDataNodesMap.get(dataNode.getDataSourceName());
         if (null == actualTables) {
             actualTables = new LinkedHashSet<>();
-            datasourceToTablesMap.put(datasourceName, actualTables);
+            datasourceToTablesMap.put(dataNode.getDataSourceName(), actualTables);
+            dataNodes = new LinkedHashMap<>();
+            datasourceToDataNodesMap.put(dataNode.getDataSourceName(), dataNodes);
+        }
+        actualTables.add(dataNode.getTableName());
+        if (!dataNodes.containsKey(dataNode.getTableName())) {
+            dataNodes.put(dataNode.getTableName(), dataNode);
         }
-        actualTables.add(tableName);
     }
     
     private boolean containsKeyGeneratorConfiguration(final TableRuleConfiguration tableRuleConfiguration) {
@@ -156,7 +165,7 @@ public final class TableRule {
             result.add(dataNode);
             dataNodeIndexMap.put(dataNode, index);
             actualDatasourceNames.add(each);
-            addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
+            addActualTable(dataNode);
             index++;
         }
         return result;
@@ -173,7 +182,7 @@ public final class TableRule {
             result.add(dataNode);
             dataNodeIndexMap.put(dataNode, index);
             actualDatasourceNames.add(dataNode.getDataSourceName());
-            addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
+            addActualTable(dataNode);
             index++;
         }
         return result;
@@ -219,6 +228,34 @@ public final class TableRule {
         return result;
     }
     
+    /**
+     * Get actual data nodes via target data source name.
+     *
+     * @param targetDataSource target data source name
+     * @return actual data nodes belong to target data source
+     */
+    public Collection<DataNode> getActualDataNodes(final String targetDataSource) {
+        Map<String, DataNode> result = datasourceToDataNodesMap.get(targetDataSource);
+        return null == result ? Collections.<DataNode>emptyList() : result.values();
+    }
+    
+    /**
+     * Get actual data node via data source name and actual table name.
+     * 
+     * <p>
+     * Return the configured data node instance if existed, otherwise return a new data node.
+     * </p>
+     *
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     * @return actual data node
+     */
+    public DataNode getActualDataNode(final String dataSourceName, final String actualTableName) {
+        Map<String, DataNode> dataNodes = datasourceToDataNodesMap.get(dataSourceName);
+        DataNode result = null == dataNodes ? null : dataNodes.get(actualTableName);
+        return null == result ? new DataNode(dataSourceName, actualTableName) : result;
+    }
+    
     int findActualTableIndex(final String dataSourceName, final String actualTableName) {
         DataNode dataNode = new DataNode(dataSourceName, actualTableName);
         return dataNodeIndexMap.containsKey(dataNode) ? dataNodeIndexMap.get(dataNode) : -1;
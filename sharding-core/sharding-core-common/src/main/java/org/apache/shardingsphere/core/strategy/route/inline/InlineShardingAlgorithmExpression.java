@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.core.util.InlineExpressionParser;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Algorithm expression of inline sharding strategy.
+ * 
+ * <p>
+ * Simple expressions such as {@code t_order_${order_id}} and {@code t_order_${order_id % 16}} are evaluated by arithmetic and string concatenation directly,
+ * others are evaluated by groovy closure and results are memoized for each sharding value.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class InlineShardingAlgorithmExpression {
+    
+    private static final Pattern SIMPLE_EXPRESSION_PATTERN = Pattern.compile("^([^$\"\\\\]*)\\$\\{\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*(%\\s*([0-9]{1,9})\\s*)?}([^$\"\\\\]*)$");
+    
+    private static final int MAX_PRECOMPUTED_MODULUS = 4096;
+    
+    private static final long MAX_MEMOIZED_SIZE = 4096L;
+    
+    private final Closure<?> closure;
+    
+    private final String shardingColumn;
+    
+    private final boolean simple;
+    
+    private final String prefix;
+    
+    private final String suffix;
+    
+    private final int modulus;
+    
+    private final String[] precomputedResults;
+    
+    private final Cache<Object, String> memoizedResults = CacheBuilder.newBuilder().maximumSize(MAX_MEMOIZED_SIZE).build();
+    
+    public InlineShardingAlgorithmExpression(final String shardingColumn, final String algorithmExpression) {
+        this.shardingColumn = shardingColumn;
+        String expression = InlineExpressionParser.handlePlaceHolder(algorithmExpression.trim());
+        closure = new InlineExpressionParser(expression).evaluateClosure();
+        Matcher matcher = SIMPLE_EXPRESSION_PATTERN.matcher(expression);
+        simple = matcher.matches() && shardingColumn.equals(matcher.group(2)) && (null == matcher.group(4) || Integer.parseInt(matcher.group(4)) > 0);
+        prefix = simple ? matcher.group(1) : "";
+        suffix = simple ? matcher.group(5) : "";
+        modulus = simple && null != matcher.group(4) ? Integer.parseInt(matcher.group(4)) : 0;
+        precomputedResults = modulus > 0 && modulus <= MAX_PRECOMPUTED_MODULUS ? precomputeResults() : null;
+    }
+    
+    private String[] precomputeResults() {
+        String[] result = new String[modulus * 2 - 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = prefix + (i - modulus + 1) + suffix;
+        }
+        return result;
+    }
+    
+    /**
+     * Evaluate expression with sharding value.
+     * 
+     * @param columnName column name of sharding value
+     * @param value sharding value
+     * @return evaluated result
+     */
+    public String evaluate(final String columnName, final Comparable<?> value) {
+        if (null == value || !shardingColumn.equals(columnName)) {
+            return evaluateClosure(columnName, value);
+        }
+        if (simple && isIntegral(value)) {
+            return evaluateSimpleExpression(((Number) value).longValue());
+        }
+        if (simple && 0 == modulus && value instanceof String) {
+            return prefix + value + suffix;
+        }
+        String result = memoizedResults.getIfPresent(value);
+        if (null == result) {
+            result = evaluateClosure(columnName, value);
+            memoizedResults.put(value, result);
+        }
+        return result;
+    }
+    
+    private boolean isIntegral(final Comparable<?> value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    private String evaluateSimpleExpression(final long value) {
+        if (0 == modulus) {
+            return prefix + value + suffix;
+        }
+        long remainder = value % modulus;
+        return null == precomputedResults ? prefix + remainder + suffix : precomputedResults[(int) remainder + modulus - 1];
+    }
+    
+    private String evaluateClosure(final String columnName, final Comparable<?> value) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty(columnName, value);
+        return result.call().toString();
+    }
+}
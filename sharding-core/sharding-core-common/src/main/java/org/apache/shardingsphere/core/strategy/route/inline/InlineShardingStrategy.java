@@ -18,19 +18,13 @@
 package org.apache.shardingsphere.core.strategy.route.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
-import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
-import org.apache.shardingsphere.core.util.InlineExpressionParser;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -42,14 +36,13 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final String shardingColumn;
     
-    private final Closure<?> closure;
+    private final InlineShardingAlgorithmExpression algorithmExpression;
     
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
-        String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
-        closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        algorithmExpression = new InlineShardingAlgorithmExpression(shardingColumn, inlineShardingStrategyConfig.getAlgorithmExpression());
     }
     
     @Override
@@ -66,30 +59,14 @@ public final class InlineShardingStrategy implements ShardingStrategy {
         return result;
     }
     
-    private Collection<String> doSharding(final ListRouteValue shardingValue) {
+    private Collection<String> doSharding(final ListRouteValue<?> shardingValue) {
         Collection<String> result = new LinkedList<>();
-        for (PreciseShardingValue<?> each : transferToPreciseShardingValues(shardingValue)) {
-            result.add(execute(each));
-        }
-        return result;
-    }
-    
-    @SuppressWarnings("unchecked")
-    private List<PreciseShardingValue> transferToPreciseShardingValues(final ListRouteValue<?> shardingValue) {
-        List<PreciseShardingValue> result = new ArrayList<>(shardingValue.getValues().size());
         for (Comparable<?> each : shardingValue.getValues()) {
-            result.add(new PreciseShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), each));
+            result.add(algorithmExpression.evaluate(shardingValue.getColumnName(), each));
         }
         return result;
     }
     
-    private String execute(final PreciseShardingValue shardingValue) {
-        Closure<?> result = closure.rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
-        return result.call().toString();
-    }
-    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyHistogramTest {
+    
+    @Test
+    public void assertBucketIndexOfSmallValues() {
+        for (int i = 0; i < 128; i++) {
+            assertThat(LatencyHistogram.getBucketIndex(i), is(i));
+            assertThat(LatencyHistogram.getLowestValue(i), is((long) i));
+            assertThat(LatencyHistogram.getHighestValue(i), is((long) i));
+        }
+    }
+    
+    @Test
+    public void assertBucketBoundaries() {
+        for (int i = 128; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertThat(LatencyHistogram.getBucketIndex(LatencyHistogram.getLowestValue(i)), is(i));
+            assertThat(LatencyHistogram.getBucketIndex(LatencyHistogram.getHighestValue(i)), is(i));
+            assertThat(LatencyHistogram.getHighestValue(i - 1) + 1, is(LatencyHistogram.getLowestValue(i)));
+        }
+        assertThat(LatencyHistogram.getHighestValue(LatencyHistogram.BUCKET_COUNT - 1), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertRelativeError() {
+        for (long each = 1L; each < Long.MAX_VALUE / 3; each = each * 3 + 1) {
+            int bucketIndex = LatencyHistogram.getBucketIndex(each);
+            assertTrue(LatencyHistogram.getHighestValue(bucketIndex) - LatencyHistogram.getLowestValue(bucketIndex) <= each / 64);
+        }
+    }
+    
+    @Test
+    public void assertSnapshot() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1L; i <= 1000L; i++) {
+            histogram.record(i * 1000L);
+        }
+        histogram.record(-1L);
+        HistogramSnapshot actual = histogram.snapshot();
+        assertThat(actual.getTotalCount(), is(1001L));
+        assertThat(actual.getSum(), is(500500000L));
+        assertThat(actual.getMinValue(), is(0L));
+        assertWithinRelativeError(actual.getMaxValue(), 1000000L);
+        assertWithinRelativeError(actual.getValueAtPercentile(50), 500000L);
+        assertWithinRelativeError(actual.getValueAtPercentile(99), 990000L);
+        assertWithinRelativeError(actual.getValueAtPercentile(100), 1000000L);
+        assertThat((long) actual.getMean(), is(500000L));
+    }
+    
+    @Test
+    public void assertSnapshotMinus() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10L);
+        HistogramSnapshot previous = histogram.snapshot();
+        histogram.record(20L);
+        histogram.record(30L);
+        HistogramSnapshot actual = histogram.snapshot().minus(previous);
+        assertThat(actual.getTotalCount(), is(2L));
+        assertThat(actual.getSum(), is(50L));
+        assertThat(actual.getMinValue(), is(20L));
+        assertThat(actual.getMaxValue(), is(30L));
+    }
+    
+    @Test
+    public void assertEmptySnapshot() {
+        HistogramSnapshot actual = new LatencyHistogram().snapshot();
+        assertThat(actual.getTotalCount(), is(0L));
+        assertThat(actual.getValueAtPercentile(99), is(0L));
+        assertThat(actual.getMaxValue(), is(0L));
+        assertThat(actual.getMinValue(), is(0L));
+        assertThat(actual.getMean(), is(0D));
+    }
+    
+    private void assertWithinRelativeError(final long actual, final long expected) {
+        assertTrue(String.format("Actual %d is not close to %d.", actual, expected), Math.abs(actual - expected) <= expected / 64);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class PrometheusMetricsFormatterTest {
+    
+    @Test
+    public void assertFormat() {
+        HistogramMetricsTracker tracker = new HistogramMetricsTracker();
+        tracker.recordLatency(MetricsStage.PARSE, 2000000000L);
+        tracker.recordCount(MetricsCounter.PARSE_CACHE_HIT, 3L);
+        String actual = PrometheusMetricsFormatter.format(tracker.getSnapshot());
+        assertTrue(actual.startsWith("# TYPE shardingsphere_stage_latency_seconds summary\n"));
+        assertTrue(actual.contains("shardingsphere_stage_latency_seconds{stage=\"parse\",quantile=\"0.99\"} 2.0"));
+        assertTrue(actual.contains("shardingsphere_stage_latency_seconds_sum{stage=\"parse\"} 2.0\n"));
+        assertTrue(actual.contains("shardingsphere_stage_latency_seconds_count{stage=\"parse\"} 1\n"));
+        assertTrue(actual.contains("shardingsphere_stage_latency_seconds_count{stage=\"connection_acquire\"} 0\n"));
+        assertTrue(actual.contains("# TYPE shardingsphere_parse_cache_hit_total counter\nshardingsphere_parse_cache_hit_total 3\n"));
+    }
+    
+    @Test
+    public void assertAppendSampleWithLabels() {
+        StringBuilder actual = new StringBuilder();
+        PrometheusMetricsFormatter.appendSample(actual, "test_gauge", "name=\"Worker-0\"", 1);
+        PrometheusMetricsFormatter.appendSample(actual, "test_gauge", "", 2);
+        assertThat(actual.toString(), is("test_gauge{name=\"Worker-0\"} 1\ntest_gauge 2\n"));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingMetricsTest {
+    
+    @Before
+    public void setUp() {
+        ShardingMetrics.getInstance().setEnabled(true);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingMetrics.getInstance().setEnabled(false);
+    }
+    
+    @Test
+    public void assertFinishTiming() {
+        MetricsSnapshot previous = ShardingMetrics.getInstance().getSnapshot();
+        long startNanos = ShardingMetrics.getInstance().startTiming();
+        ShardingMetrics.getInstance().finishTiming(MetricsStage.EXECUTE, startNanos);
+        MetricsSnapshot actual = ShardingMetrics.getInstance().getSnapshot().minus(previous);
+        assertThat(actual.getLatencies().get(MetricsStage.EXECUTE).getTotalCount(), is(1L));
+        assertThat(actual.getLatencies().get(MetricsStage.PARSE).getTotalCount(), is(0L));
+    }
+    
+    @Test
+    public void assertFinishTimingWithExcludedNanos() {
+        long startParseNanos = ShardingMetrics.getInstance().getParseNanosOfCurrentThread();
+        long startNanos = ShardingMetrics.getInstance().startTiming();
+        ShardingMetrics.getInstance().finishTiming(MetricsStage.PARSE, ShardingMetrics.getInstance().startTiming() - 1000000000L);
+        long parseNanos = ShardingMetrics.getInstance().getParseNanosOfCurrentThread() - startParseNanos;
+        assertTrue(parseNanos >= 1000000000L);
+        MetricsSnapshot previous = ShardingMetrics.getInstance().getSnapshot();
+        ShardingMetrics.getInstance().finishTiming(MetricsStage.ROUTE, startNanos, parseNanos);
+        HistogramSnapshot actual = ShardingMetrics.getInstance().getSnapshot().minus(previous).getLatencies().get(MetricsStage.ROUTE);
+        assertThat(actual.getTotalCount(), is(1L));
+        assertTrue(actual.getSum() < 1000000000L);
+    }
+    
+    @Test
+    public void assertRecordCount() {
+        MetricsSnapshot previous = ShardingMetrics.getInstance().getSnapshot();
+        ShardingMetrics.getInstance().recordCount(MetricsCounter.ROUTE_UNITS, 4L);
+        ShardingMetrics.getInstance().recordCount(MetricsCounter.ROUTE_UNITS, 2L);
+        assertThat(ShardingMetrics.getInstance().getSnapshot().minus(previous).getCounters().get(MetricsCounter.ROUTE_UNITS), is(6L));
+    }
+    
+    @Test
+    public void assertEnableAndDisableForContexts() {
+        ShardingMetrics.getInstance().setEnabled(false);
+        ShardingMetrics.getInstance().enableForContext();
+        ShardingMetrics.getInstance().enableForContext();
+        ShardingMetrics.getInstance().disableForContext();
+        assertTrue(ShardingMetrics.getInstance().isEnabled());
+        ShardingMetrics.getInstance().disableForContext();
+        assertFalse(ShardingMetrics.getInstance().isEnabled());
+    }
+    
+    @Test
+    public void assertNothingRecordedWhenDisabled() {
+        ShardingMetrics.getInstance().setEnabled(false);
+        MetricsSnapshot previous = ShardingMetrics.getInstance().getSnapshot();
+        long startNanos = ShardingMetrics.getInstance().startTiming();
+        assertThat(startNanos, is(0L));
+        ShardingMetrics.getInstance().finishTiming(MetricsStage.MERGE, startNanos);
+        ShardingMetrics.getInstance().recordCount(MetricsCounter.MERGED_ROWS, 1L);
+        MetricsSnapshot actual = ShardingMetrics.getInstance().getSnapshot().minus(previous);
+        assertThat(actual.getLatencies().get(MetricsStage.MERGE).getTotalCount(), is(0L));
+        assertThat(actual.getCounters().get(MetricsCounter.MERGED_ROWS), is(0L));
+    }
+}
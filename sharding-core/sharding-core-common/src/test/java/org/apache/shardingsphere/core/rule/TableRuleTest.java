@@ -25,6 +25,7 @@ import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrate
 import org.apache.shardingsphere.core.strategy.keygen.fixture.IncrementShardingKeyGenerator;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,6 +33,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -87,6 +89,20 @@ public final class TableRuleTest {
         assertThat(actual.getActualTableNames("ds2"), is((Collection<String>) Collections.<String>emptySet()));
     }
     
+    @Test
+    public void assertGetActualDataNodesViaDataSource() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), createShardingDataSourceNames(), null);
+        assertThat(new ArrayList<>(actual.getActualDataNodes("ds1")), is((Collection<DataNode>) Arrays.asList(new DataNode("ds1", "table_0"), new DataNode("ds1", "table_1"), new DataNode("ds1", "table_2"))));
+        assertTrue(actual.getActualDataNodes("ds2").isEmpty());
+    }
+    
+    @Test
+    public void assertGetActualDataNode() {
+        TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), createShardingDataSourceNames(), null);
+        assertThat(actual.getActualDataNode("ds1", "table_1"), sameInstance(actual.getActualDataNodes().get(4)));
+        assertThat(actual.getActualDataNode("ds2", "table_1"), is(new DataNode("ds2", "table_1")));
+    }
+    
     @Test
     public void assertFindActualTableIndex() {
         TableRule actual = new TableRule(new TableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), createShardingDataSourceNames(), null);
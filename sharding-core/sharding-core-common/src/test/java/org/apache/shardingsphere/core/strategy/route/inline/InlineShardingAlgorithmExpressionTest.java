@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.inline;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class InlineShardingAlgorithmExpressionTest {
+    
+    @Test
+    public void assertEvaluateWithModulo() {
+        InlineShardingAlgorithmExpression actual = new InlineShardingAlgorithmExpression("order_id", "t_order_${order_id % 16}");
+        assertThat(actual.evaluate("order_id", 17), is("t_order_1"));
+        assertThat(actual.evaluate("order_id", 1000000000015L), is("t_order_15"));
+        assertThat(actual.evaluate("order_id", -3), is("t_order_-3"));
+        assertThat(actual.evaluate("order_id", 2), sameInstance(actual.evaluate("order_id", 18)));
+    }
+    
+    @Test
+    public void assertEvaluateWithPlaceHolderAndSuffix() {
+        assertThat(new InlineShardingAlgorithmExpression("user_id", "ds_$->{user_id % 2}_slave").evaluate("user_id", 3), is("ds_1_slave"));
+    }
+    
+    @Test
+    public void assertEvaluateWithoutModulo() {
+        InlineShardingAlgorithmExpression actual = new InlineShardingAlgorithmExpression("status", "t_order_${status}");
+        assertThat(actual.evaluate("status", "init"), is("t_order_init"));
+        assertThat(actual.evaluate("status", 10), is("t_order_10"));
+    }
+    
+    @Test
+    public void assertEvaluateWithComplexExpression() {
+        InlineShardingAlgorithmExpression actual = new InlineShardingAlgorithmExpression("order_id", "t_order_${order_id.intdiv(10) % 4}");
+        assertThat(actual.evaluate("order_id", 25), is("t_order_2"));
+        assertThat(actual.evaluate("order_id", 25), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateWithOtherColumn() {
+        assertThat(new InlineShardingAlgorithmExpression("order_id", "t_order_${user_id % 4}").evaluate("user_id", 5), is("t_order_1"));
+    }
+}
@@ -23,6 +23,9 @@ import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metrics.MetricsCounter;
+import org.apache.shardingsphere.core.metrics.MetricsStage;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLLogger;
@@ -66,9 +69,9 @@ public abstract class BaseShardingEngine {
      * @return SQL route result
      */
     public SQLRouteResult shard(final String sql, final List<Object> parameters) {
-        List<Object> clonedParameters = cloneParameters(parameters);
-        SQLRouteResult result = executeRoute(sql, clonedParameters);
-        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result));
+        SQLRouteResult result = routeAndRewrite(sql, cloneParameters(parameters));
+        ShardingMetrics.getInstance().recordCount(MetricsCounter.ROUTED_STATEMENTS, 1L);
+        ShardingMetrics.getInstance().recordCount(MetricsCounter.ROUTE_UNITS, result.getRouteUnits().size());
         boolean showSQL = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SHOW);
         if (showSQL) {
             boolean showSimple = shardingProperties.getValue(ShardingPropertiesConstant.SQL_SIMPLE);
@@ -81,10 +84,21 @@ public abstract class BaseShardingEngine {
     
     protected abstract SQLRouteResult route(String sql, List<Object> parameters);
     
+    protected SQLRouteResult routeAndRewrite(final String sql, final List<Object> clonedParameters) {
+        SQLRouteResult result = executeRoute(sql, clonedParameters);
+        long startNanos = ShardingMetrics.getInstance().startTiming();
+        result.getRouteUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, result) : rewriteAndConvert(sql, clonedParameters, result));
+        ShardingMetrics.getInstance().finishTiming(MetricsStage.REWRITE, startNanos);
+        return result;
+    }
+    
     private SQLRouteResult executeRoute(final String sql, final List<Object> clonedParameters) {
         routingHook.start(sql);
+        long startParseNanos = ShardingMetrics.getInstance().getParseNanosOfCurrentThread();
+        long startNanos = ShardingMetrics.getInstance().startTiming();
         try {
             SQLRouteResult result = route(sql, clonedParameters);
+            ShardingMetrics.getInstance().finishTiming(MetricsStage.ROUTE, startNanos, ShardingMetrics.getInstance().getParseNanosOfCurrentThread() - startParseNanos);
             routingHook.finishSuccess(result, metaData.getTables());
             return result;
             // CHECKSTYLE:OFF
@@ -95,6 +109,24 @@ public abstract class BaseShardingEngine {
         }
     }
     
+    /**
+     * Reuse route result without routing and rewriting.
+     * 
+     * <p>
+     * Routing hook is still notified, so every sharded SQL is visible to routing hooks.
+     * Route and rewrite stage timing are not recorded because nothing is routed or rewritten.
+     * </p>
+     *
+     * @param sql SQL
+     * @param routeResult reused route result
+     * @return reused route result
+     */
+    protected final SQLRouteResult reuseRouteResult(final String sql, final SQLRouteResult routeResult) {
+        routingHook.start(sql);
+        routingHook.finishSuccess(routeResult, metaData.getTables());
+        return routeResult;
+    }
+    
     private Collection<RouteUnit> convert(final String sql, final List<Object> parameters, final SQLRouteResult sqlRouteResult) {
         Collection<RouteUnit> result = new LinkedHashSet<>();
         for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
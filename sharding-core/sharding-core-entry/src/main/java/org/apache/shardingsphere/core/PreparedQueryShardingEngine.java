@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.core;
 
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.core.cache.RouteResultCache;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
@@ -43,10 +47,14 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
     
     private final PreparedStatementRoutingEngine routingEngine;
     
+    private final RouteResultCache routeResultCache;
+    
     public PreparedQueryShardingEngine(final String sql, 
                                        final ShardingRule shardingRule, final ShardingProperties shardingProperties, final ShardingSphereMetaData metaData, final SQLParseEngine sqlParseEngine) {
         super(shardingRule, shardingProperties, metaData);
         routingEngine = new PreparedStatementRoutingEngine(sql, shardingRule, metaData, sqlParseEngine);
+        int routeCacheSize = shardingProperties.getValue(ShardingPropertiesConstant.PREPARED_STATEMENT_ROUTE_CACHE_SIZE);
+        routeResultCache = routeCacheSize > 0 && RouteResultCache.isCacheable(shardingRule) ? new RouteResultCache(routeCacheSize, metaData.getTables()) : null;
     }
     
     @Override
@@ -54,6 +62,30 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
         return new ArrayList<>(parameters);
     }
     
+    @Override
+    protected SQLRouteResult routeAndRewrite(final String sql, final List<Object> clonedParameters) {
+        Optional<List<Object>> cacheKey = null == routeResultCache || HintManager.isDatabaseShardingOnly() ? Optional.<List<Object>>absent() : RouteResultCache.createCacheKey(clonedParameters);
+        if (!cacheKey.isPresent()) {
+            return super.routeAndRewrite(sql, clonedParameters);
+        }
+        Optional<SQLRouteResult> cachedResult = routeResultCache.getRouteResult(cacheKey.get());
+        if (cachedResult.isPresent()) {
+            return reuseRouteResult(sql, cachedResult.get());
+        }
+        SQLRouteResult result = super.routeAndRewrite(sql, clonedParameters);
+        routeResultCache.put(cacheKey.get(), result);
+        return result;
+    }
+    
+    /**
+     * Get route result cache.
+     * 
+     * @return route result cache
+     */
+    public Optional<RouteResultCache> getRouteResultCache() {
+        return Optional.fromNullable(routeResultCache);
+    }
+    
     @Override
     protected SQLRouteResult route(final String sql, final List<Object> parameters) {
         return routingEngine.route(parameters);
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.rule.TableRule;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.hint.HintShardingStrategy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route result cache for prepared statement.
+ *
+ * <p>
+ * Cache key is parameters of prepared statement, cache value is route result with rewritten SQL units.
+ * All cached route results are invalidated after table metas changed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class RouteResultCache {
+    
+    private final Cache<List<Object>, SQLRouteResult> cache;
+    
+    private final TableMetas tableMetas;
+    
+    private volatile long tableMetasVersion;
+    
+    public RouteResultCache(final int maximumSize, final TableMetas tableMetas) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+        this.tableMetas = tableMetas;
+        tableMetasVersion = null == tableMetas ? 0L : tableMetas.getVersion();
+    }
+    
+    /**
+     * Judge is sharding rule cacheable or not.
+     *
+     * <p>Master-slave routing and hint sharding depend on thread state, the results of them can not be cached.</p>
+     *
+     * @param shardingRule sharding rule
+     * @return is sharding rule cacheable or not
+     */
+    public static boolean isCacheable(final ShardingRule shardingRule) {
+        if (!shardingRule.getMasterSlaveRules().isEmpty() || isHintShardingStrategy(shardingRule.getDefaultDatabaseShardingStrategy())
+                || isHintShardingStrategy(shardingRule.getDefaultTableShardingStrategy())) {
+            return false;
+        }
+        for (TableRule each : shardingRule.getTableRules()) {
+            if (isHintShardingStrategy(each.getDatabaseShardingStrategy()) || isHintShardingStrategy(each.getTableShardingStrategy())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isHintShardingStrategy(final ShardingStrategy shardingStrategy) {
+        return shardingStrategy instanceof HintShardingStrategy;
+    }
+    
+    /**
+     * Create cache key via parameters.
+     *
+     * <p>Only parameters which are immutable values can be used as cache key.</p>
+     *
+     * @param parameters parameters of SQL
+     * @return cache key
+     */
+    public static Optional<List<Object>> createCacheKey(final List<Object> parameters) {
+        for (Object each : parameters) {
+            if (!isImmutableValue(each)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.<List<Object>>of(new ArrayList<>(parameters));
+    }
+    
+    private static boolean isImmutableValue(final Object value) {
+        return null == value || value instanceof String || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Boolean || value instanceof Character || value instanceof Double || value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+    
+    /**
+     * Get route result.
+     *
+     * @param cacheKey cache key
+     * @return route result
+     */
+    public Optional<SQLRouteResult> getRouteResult(final List<Object> cacheKey) {
+        checkTableMetasVersion();
+        SQLRouteResult cached = cache.getIfPresent(cacheKey);
+        if (null == cached) {
+            return Optional.absent();
+        }
+        SQLRouteResult result = new SQLRouteResult(cached.getSqlStatementContext(), cached.getShardingConditions(), cached.getGeneratedKey().orNull());
+        result.setRoutingResult(cached.getRoutingResult());
+        result.getRouteUnits().addAll(cached.getRouteUnits());
+        return Optional.of(result);
+    }
+    
+    /**
+     * Put route result.
+     *
+     * <p>Only route result of DQL, UPDATE and DELETE without generated key will be cached.</p>
+     *
+     * @param cacheKey cache key
+     * @param routeResult route result
+     */
+    public void put(final List<Object> cacheKey, final SQLRouteResult routeResult) {
+        if (isCacheable(routeResult)) {
+            checkTableMetasVersion();
+            cache.put(cacheKey, routeResult);
+        }
+    }
+    
+    private boolean isCacheable(final SQLRouteResult routeResult) {
+        if (routeResult.getGeneratedKey().isPresent() || null == routeResult.getRoutingResult()) {
+            return false;
+        }
+        SQLStatement sqlStatement = routeResult.getSqlStatementContext().getSqlStatement();
+        return sqlStatement instanceof SelectStatement || sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement;
+    }
+    
+    private void checkTableMetasVersion() {
+        if (null == tableMetas) {
+            return;
+        }
+        long currentVersion = tableMetas.getVersion();
+        if (currentVersion != tableMetasVersion) {
+            cache.invalidateAll();
+            tableMetasVersion = currentVersion;
+        }
+    }
+    
+    /**
+     * Get statistics of cache.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
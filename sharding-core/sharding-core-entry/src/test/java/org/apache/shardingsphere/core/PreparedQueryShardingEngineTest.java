@@ -18,9 +18,21 @@
 package org.apache.shardingsphere.core;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.fixture.RoutingHookFixture;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.optimize.statement.impl.CommonSQLStatementContext;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
+import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
+import org.apache.shardingsphere.core.route.type.RoutingResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.junit.Before;
@@ -32,8 +44,13 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -69,6 +86,36 @@ public final class PreparedQueryShardingEngineTest extends BaseShardingEngineTes
         assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
     }
     
+    @Test
+    public void assertShardWithRouteResultCache() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getEncryptRule()).thenReturn(mock(EncryptRule.class));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getTables()).thenReturn(new TableMetas(Collections.<String, TableMetaData>emptyMap()));
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PREPARED_STATEMENT_ROUTE_CACHE_SIZE.getKey(), "16");
+        shardingEngine = new PreparedQueryShardingEngine(getSql(), shardingRule, new ShardingProperties(props), metaData, mock(SQLParseEngine.class));
+        setRoutingEngine();
+        when(routingEngine.route(getParameters())).thenReturn(createSelectSQLRouteResult());
+        RoutingHookFixture.reset();
+        assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
+        assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
+        verify(routingEngine, times(1)).route(getParameters());
+        assertThat(shardingEngine.getRouteResultCache().get().getStats().hitCount(), is(1L));
+        assertThat(RoutingHookFixture.getFinishSuccessCount(), is(2));
+        metaData.getTables().put("t_order", mock(TableMetaData.class));
+        assertSQLRouteResult(shardingEngine.shard(getSql(), getParameters()));
+        verify(routingEngine, times(2)).route(getParameters());
+    }
+    
+    private SQLRouteResult createSelectSQLRouteResult() {
+        SQLRouteResult result = new SQLRouteResult(new CommonSQLStatementContext(new SelectStatement()), new ShardingConditions(Collections.<ShardingCondition>emptyList()));
+        RoutingResult routingResult = new RoutingResult();
+        routingResult.getRoutingUnits().add(new RoutingUnit("ds"));
+        result.setRoutingResult(routingResult);
+        return result;
+    }
+    
     @Test(expected = SQLException.class)
     public void assertWithRouteException() {
         when(routingEngine.route(getParameters())).thenThrow(SQLException.class);
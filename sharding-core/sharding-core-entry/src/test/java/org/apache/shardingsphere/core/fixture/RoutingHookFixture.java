@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.fixture;
 
+import lombok.Getter;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.hook.RoutingHook;
@@ -28,12 +29,23 @@ import org.apache.shardingsphere.core.route.hook.RoutingHook;
  */
 public class RoutingHookFixture implements RoutingHook {
     
+    @Getter
+    private static int finishSuccessCount;
+    
+    /**
+     * Reset count of successful routing.
+     */
+    public static void reset() {
+        finishSuccessCount = 0;
+    }
+    
     @Override
     public void start(final String sql) {
     }
     
     @Override
     public void finishSuccess(final SQLRouteResult sqlRouteResult, final TableMetas tableMetas) {
+        finishSuccessCount++;
     }
     
     @Override
@@ -46,13 +46,16 @@ public final class ShardingExecutorService {
     }
     
     public ShardingExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, ShardingThreadFactoryBuilder.build(nameFormat));
+    }
+    
+    public ShardingExecutorService(final int executorSize, final ThreadFactory threadFactory) {
+        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, threadFactory));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory shardingThreadFactory = ShardingThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(shardingThreadFactory) : Executors.newFixedThreadPool(executorSize, shardingThreadFactory);
+    private ExecutorService getExecutorService(final int executorSize, final ThreadFactory threadFactory) {
+        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
     /**
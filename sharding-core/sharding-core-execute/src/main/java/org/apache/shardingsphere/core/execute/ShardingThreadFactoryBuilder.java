@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -53,4 +54,23 @@ public final class ShardingThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build sharding virtual thread factory.
+     *
+     * <p>Virtual thread is supported since JDK 21, the factory is built by reflection to keep compatible with lower JDK versions.</p>
+     *
+     * @param namePrefix thread name prefix
+     * @return sharding virtual thread factory, absent if virtual thread is not supported by current JVM
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, NAME_FORMAT_PREFIX + namePrefix, 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final ReflectiveOperationException ex) {
+            return Optional.absent();
+        }
+    }
 }
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.core.execute.hook.SQLExecutionHook;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
+import org.apache.shardingsphere.core.metrics.MetricsStage;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 import org.apache.shardingsphere.spi.database.DatabaseType;
@@ -65,7 +67,9 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
+            long startNanos = ShardingMetrics.getInstance().startTiming();
             T result = executeSQL(statementExecuteUnit.getRouteUnit(), statementExecuteUnit.getStatement(), statementExecuteUnit.getConnectionMode());
+            ShardingMetrics.getInstance().finishTiming(MetricsStage.EXECUTE, startNanos);
             sqlExecutionHook.finishSuccess();
             return result;
         } catch (final SQLException ex) {
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingThreadFactoryBuilderTest {
+    
+    @Test
+    public void assertBuild() {
+        Thread thread = ShardingThreadFactoryBuilder.build("test-%d").newThread(new Runnable() {
+            
+            @Override
+            public void run() {
+            }
+        });
+        assertTrue(thread.isDaemon());
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+    }
+    
+    @Test
+    public void assertBuildVirtual() {
+        Optional<ThreadFactory> actual = ShardingThreadFactoryBuilder.buildVirtual("test-");
+        assertThat(actual.isPresent(), is(isVirtualThreadSupported()));
+        if (actual.isPresent()) {
+            assertThat(actual.get().newThread(new Runnable() {
+                
+                @Override
+                public void run() {
+                }
+            }).getName(), is("ShardingSphere-test-0"));
+        }
+    }
+    
+    private boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which holds resources until closed.
+ *
+ * <p>Merged result may be closed before all data iterated, such as limited by pagination or closed by client.</p>
+ *
+ * @author zhangliang
+ */
+public interface CloseableMergedResult extends MergedResult, AutoCloseable {
+    
+    /**
+     * Close merged result and release resources.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Override
+    void close() throws SQLException;
+}
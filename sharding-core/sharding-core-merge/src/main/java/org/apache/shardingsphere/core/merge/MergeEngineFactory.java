@@ -19,10 +19,13 @@ package org.apache.shardingsphere.core.merge;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
 import org.apache.shardingsphere.core.optimize.statement.impl.SelectSQLStatementContext;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
@@ -54,8 +57,32 @@ public final class MergeEngineFactory {
      */
     public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule,
                                           final SQLRouteResult routeResult, final TableMetas tableMetas, final List<QueryResult> queryResults) throws SQLException {
+        return newInstance(databaseType, shardingRule, routeResult, tableMetas, queryResults, 0);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param databaseType database type
+     * @param shardingRule sharding rule
+     * @param routeResult SQL route result
+     * @param tableMetas sharding table meta Data
+     * @param queryResults query results
+     * @param shardingProperties sharding properties
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLRouteResult routeResult, 
+                                          final TableMetas tableMetas, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) throws SQLException {
+        int maxRowsInMemory = shardingProperties.getValue(ShardingPropertiesConstant.MEMORY_MERGE_MAX_ROWS);
+        return newInstance(databaseType, shardingRule, routeResult, tableMetas, queryResults, maxRowsInMemory);
+    }
+    
+    private static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLRouteResult routeResult, 
+                                           final TableMetas tableMetas, final List<QueryResult> queryResults, final int maxRowsInMemory) throws SQLException {
         if (routeResult.getSqlStatementContext() instanceof SelectSQLStatementContext) {
-            return new DQLMergeEngine(databaseType, tableMetas, routeResult, queryResults);
+            MergeEngine result = new DQLMergeEngine(databaseType, tableMetas, routeResult, queryResults, maxRowsInMemory);
+            return ShardingMetrics.getInstance().isEnabled() ? new MetricsMergeEngine(result) : result;
         } 
         if (routeResult.getSqlStatementContext().getSqlStatement() instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, routeResult.getSqlStatementContext(), tableMetas);
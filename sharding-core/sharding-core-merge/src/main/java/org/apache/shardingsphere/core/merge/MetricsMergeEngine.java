@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.metrics.MetricsStage;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+
+import java.sql.SQLException;
+
+/**
+ * Merge engine which records metrics of merge.
+ *
+ * <p>
+ * Latency of merge covers building merged result, which is all the work of memory merge and the first row of stream merge.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class MetricsMergeEngine implements MergeEngine {
+    
+    private final MergeEngine mergeEngine;
+    
+    @Override
+    public MergedResult merge() throws SQLException {
+        long startNanos = ShardingMetrics.getInstance().startTiming();
+        MergedResult result = mergeEngine.merge();
+        ShardingMetrics.getInstance().finishTiming(MetricsStage.MERGE, startNanos);
+        return new MetricsMergedResult(result);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge;
+
+import org.apache.shardingsphere.core.merge.dql.common.DecoratorMergedResult;
+import org.apache.shardingsphere.core.metrics.MetricsCounter;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+
+import java.sql.SQLException;
+
+/**
+ * Merged result which counts merged rows.
+ *
+ * <p>
+ * Rows are counted locally and recorded once after the last row, so iterating rows does not touch shared counters.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class MetricsMergedResult extends DecoratorMergedResult {
+    
+    private long rows;
+    
+    private boolean finished;
+    
+    public MetricsMergedResult(final MergedResult mergedResult) {
+        super(mergedResult);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (getMergedResult().next()) {
+            rows++;
+            return true;
+        }
+        if (!finished) {
+            finished = true;
+            ShardingMetrics.getInstance().recordCount(MetricsCounter.MERGED_ROWS, rows);
+        }
+        return false;
+    }
+}
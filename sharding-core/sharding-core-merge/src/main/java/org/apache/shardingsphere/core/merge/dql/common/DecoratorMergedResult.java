@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.merge.dql.common;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.merge.CloseableMergedResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
 
 import java.io.InputStream;
@@ -28,11 +29,13 @@ import java.util.Calendar;
 /**
  * Decorator merged result.
  *
+ * <p>Closing is delegated to decorated merged result.</p>
+ *
  * @author zhangliang
  */
 @RequiredArgsConstructor
 @Getter
-public abstract class DecoratorMergedResult implements MergedResult {
+public abstract class DecoratorMergedResult implements CloseableMergedResult {
     
     private final MergedResult mergedResult;
         
@@ -70,4 +73,11 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void close() throws SQLException {
+        if (mergedResult instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergedResult).close();
+        }
+    }
 }
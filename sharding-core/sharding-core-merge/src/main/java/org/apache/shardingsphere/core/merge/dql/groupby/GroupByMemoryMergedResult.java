@@ -17,111 +17,204 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.google.common.collect.PeekingIterator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.CloseableMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.merge.dql.spill.ExternalMergeSorter;
+import org.apache.shardingsphere.core.optimize.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.core.optimize.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.core.optimize.statement.impl.SelectSQLStatementContext;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * Rows are aggregated in single hash table with aggregation units of each group, 
+ * and sorted by order by items, or group by items if order by items absent.
+ * If max rows in memory is positive and groups exceed it, partial aggregated rows are spilled into sorted run files,
+ * then combined by external merge and sorted by external merge sort. Run files not read completely are deleted by closing.
+ * </p>
  *
  * @author zhangliang
  * @author yangyi
  */
-public final class GroupByMemoryMergedResult extends MemoryMergedResult {
+public final class GroupByMemoryMergedResult extends MemoryMergedResult implements CloseableMergedResult {
     
     private final SelectSQLStatementContext selectSQLStatementContext;
     
+    private final int maxRowsInMemory;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
+    private ExternalMergeSorter partialRowSorter;
+    
+    private ExternalMergeSorter resultSorter;
+    
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectSQLStatementContext selectSQLStatementContext) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectSQLStatementContext, 0);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, 
+                                     final List<QueryResult> queryResults, final SelectSQLStatementContext selectSQLStatementContext, final int maxRowsInMemory) throws SQLException {
         super(labelAndIndexMap);
         this.selectSQLStatementContext = selectSQLStatementContext;
+        this.maxRowsInMemory = maxRowsInMemory;
+        aggregationProjections = new ArrayList<>(selectSQLStatementContext.getProjectionsContext().getAggregationProjections());
         memoryResultSetRows = init(queryResults);
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        boolean completed = false;
+        try {
+            Iterator<MemoryQueryResultRow> result = merge(queryResults);
+            completed = true;
+            return result;
+        } finally {
+            if (null != partialRowSorter) {
+                partialRowSorter.close();
+            }
+            if (!completed) {
+                close();
+            }
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults) throws SQLException {
+        Map<GroupByValue, GroupByAggregationRow> dataMap = new HashMap<>(1024);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectSQLStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+                GroupByAggregationRow groupByAggregationRow = dataMap.get(groupByValue);
+                if (null == groupByAggregationRow) {
+                    if (maxRowsInMemory > 0 && dataMap.size() >= maxRowsInMemory) {
+                        partialRowSorter = null == partialRowSorter ? new ExternalMergeSorter(new GroupByValueComparator(), maxRowsInMemory) : partialRowSorter;
+                        spillPartialRows(dataMap);
+                    }
+                    groupByAggregationRow = new GroupByAggregationRow(new MemoryQueryResultRow(each), createAggregationUnits());
+                    dataMap.put(groupByValue, groupByAggregationRow);
+                }
+                aggregate(each, groupByAggregationRow.getAggregationUnits());
             }
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.<Boolean>emptyList() : getValueCaseSensitive(queryResults.iterator().next());
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap, valueCaseSensitive);
-        if (!result.isEmpty()) {
-            setCurrentResultSetRow(result.get(0));
+        if (dataMap.isEmpty() && null == partialRowSorter) {
+            return Collections.<MemoryQueryResultRow>emptyIterator();
+        }
+        GroupByRowComparator groupByRowComparator = new GroupByRowComparator(selectSQLStatementContext, getValueCaseSensitive(queryResults.iterator().next()));
+        PeekingIterator<MemoryQueryResultRow> result = Iterators.peekingIterator(
+                null == partialRowSorter ? sortInMemory(dataMap.values(), groupByRowComparator) : sortWithSpill(dataMap, groupByRowComparator));
+        setCurrentResultSetRow(result.peek());
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> sortInMemory(final Collection<GroupByAggregationRow> groupByAggregationRows, final GroupByRowComparator groupByRowComparator) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groupByAggregationRows.size());
+        for (GroupByAggregationRow each : groupByAggregationRows) {
+            result.add(each.getAggregatedRow());
+        }
+        if (result.size() > 1) {
+            Collections.sort(result, groupByRowComparator);
         }
         return result.iterator();
     }
     
-    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private void spillPartialRows(final Map<GroupByValue, GroupByAggregationRow> dataMap) throws SQLException {
+        for (GroupByAggregationRow each : dataMap.values()) {
+            partialRowSorter.add(each.getAggregatedRow());
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps.toMap(
-                    selectSQLStatementContext.getProjectionsContext().getAggregationProjections(), new Function<AggregationProjection, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationProjection input) {
-                    return AggregationUnitFactory.create(input.getType());
+        partialRowSorter.spill();
+        dataMap.clear();
+    }
+    
+    private Iterator<MemoryQueryResultRow> sortWithSpill(final Map<GroupByValue, GroupByAggregationRow> dataMap, final GroupByRowComparator groupByRowComparator) throws SQLException {
+        spillPartialRows(dataMap);
+        resultSorter = new ExternalMergeSorter(groupByRowComparator, maxRowsInMemory);
+        GroupByValueComparator groupByValueComparator = new GroupByValueComparator();
+        MemoryQueryResultRow currentRow = null;
+        AggregationUnit[] aggregationUnits = null;
+        Iterator<MemoryQueryResultRow> partialRows = partialRowSorter.sort();
+        while (partialRows.hasNext()) {
+            MemoryQueryResultRow partialRow = partialRows.next();
+            if (null == currentRow || 0 != groupByValueComparator.compare(currentRow, partialRow)) {
+                if (null != currentRow) {
+                    resultSorter.add(new GroupByAggregationRow(currentRow, aggregationUnits).getAggregatedRow());
                 }
-            });
-            aggregationMap.put(groupByValue, map);
+                currentRow = partialRow;
+                aggregationUnits = createAggregationUnits();
+            }
+            aggregate(partialRow, aggregationUnits);
+        }
+        resultSorter.add(new GroupByAggregationRow(currentRow, aggregationUnits).getAggregatedRow());
+        return resultSorter.sort();
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        int i = 0;
+        for (AggregationProjection each : aggregationProjections) {
+            result[i++] = AggregationUnitFactory.create(each.getType());
         }
+        return result;
     }
     
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectSQLStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+    private void aggregate(final QueryResult queryResult, final AggregationUnit[] aggregationUnits) throws SQLException {
+        int i = 0;
+        for (AggregationProjection each : aggregationProjections) {
+            aggregationValues.clear();
             if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+                aggregationValues.add(getAggregationValue(queryResult.getValue(each.getIndex(), Object.class)));
             } else {
                 for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                    aggregationValues.add(getAggregationValue(queryResult.getValue(derived.getIndex(), Object.class)));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i++].merge(aggregationValues);
         }
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationSelectItem) throws SQLException {
-        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectSQLStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private void aggregate(final MemoryQueryResultRow partialRow, final AggregationUnit[] aggregationUnits) {
+        int i = 0;
+        for (AggregationProjection each : aggregationProjections) {
+            aggregationValues.clear();
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(partialRow.getCell(each.getIndex())));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(partialRow.getCell(derived.getIndex())));
+                }
             }
+            aggregationUnits[i++].merge(aggregationValues);
         }
     }
     
+    private Comparable<?> getAggregationValue(final Object value) {
+        Preconditions.checkState(null == value || value instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) value;
+    }
+    
     private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
         List<Boolean> result = Lists.newArrayList(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
@@ -130,12 +223,6 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectSQLStatementContext, valueCaseSensitive));
-        return result;
-    }
-    
     @Override
     public boolean next() {
         if (memoryResultSetRows.hasNext()) {
@@ -144,4 +231,42 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
         return false;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != resultSorter) {
+            resultSorter.close();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private final class GroupByAggregationRow {
+        
+        private final MemoryQueryResultRow memoryQueryResultRow;
+        
+        private final AggregationUnit[] aggregationUnits;
+        
+        private MemoryQueryResultRow getAggregatedRow() {
+            int i = 0;
+            for (AggregationProjection each : aggregationProjections) {
+                memoryQueryResultRow.setCell(each.getIndex(), aggregationUnits[i++].getResult());
+            }
+            return memoryQueryResultRow;
+        }
+    }
+    
+    private final class GroupByValueComparator implements Comparator<MemoryQueryResultRow> {
+        
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            for (OrderByItem each : selectSQLStatementContext.getGroupByContext().getItems()) {
+                int result = GroupByValue.compare(GroupByValue.normalize(o1.getCell(each.getIndex())), GroupByValue.normalize(o2.getCell(each.getIndex())));
+                if (0 != result) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
 }
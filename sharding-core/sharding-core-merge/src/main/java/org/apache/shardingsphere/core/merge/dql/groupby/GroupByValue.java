@@ -20,8 +20,12 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.orderby.CompareUtil;
 import org.apache.shardingsphere.core.optimize.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -30,6 +34,11 @@ import java.util.List;
 /**
  * Group by value.
  * 
+ * <p>
+ * Numeric values are normalized, so that values of different integer types or different scales are grouped together when they are numerically equal.
+ * Integers in range of long are normalized to long, other numbers are normalized to big decimal without trailing zeros.
+ * </p>
+ * 
  * @author zhangliang
  */
 @Getter
@@ -45,8 +54,59 @@ public final class GroupByValue {
     private List<?> getGroupByValues(final QueryResult queryResult, final Collection<OrderByItem> groupByItems) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderByItem each : groupByItems) {
-            result.add(queryResult.getValue(each.getIndex(), Object.class));
+            result.add(normalize(queryResult.getValue(each.getIndex(), Object.class)));
         }
         return result;
     }
+    
+    /**
+     * Normalize value of group by item.
+     * 
+     * @param value value of group by item
+     * @return normalized value
+     */
+    public static Object normalize(final Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigInteger) {
+            return normalize(new BigDecimal((BigInteger) value));
+        }
+        if (!(value instanceof BigDecimal)) {
+            return value;
+        }
+        BigDecimal decimal = (BigDecimal) value;
+        if (0 == decimal.signum()) {
+            return 0L;
+        }
+        BigDecimal result = decimal.stripTrailingZeros();
+        if (result.scale() > 0) {
+            return result;
+        }
+        try {
+            return result.longValueExact();
+        } catch (final ArithmeticException ignored) {
+            return result;
+        }
+    }
+    
+    /**
+     * Compare normalized values of group by item.
+     * 
+     * <p>Long and big decimal are compared numerically.</p>
+     * 
+     * @param thisValue this normalized value
+     * @param otherValue other normalized value
+     * @return compare result
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static int compare(final Object thisValue, final Object otherValue) {
+        if (thisValue instanceof Long && otherValue instanceof BigDecimal) {
+            return BigDecimal.valueOf((Long) thisValue).compareTo((BigDecimal) otherValue);
+        }
+        if (thisValue instanceof BigDecimal && otherValue instanceof Long) {
+            return ((BigDecimal) thisValue).compareTo(BigDecimal.valueOf((Long) otherValue));
+        }
+        return CompareUtil.compareTo((Comparable) thisValue, (Comparable) otherValue, OrderDirection.ASC, OrderDirection.ASC, true);
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal accumulator.
+ * 
+ * <p>
+ * Integral values are accumulated in primitive long, and moved into {@code BigDecimal} only when long overflow.
+ * Other values are accumulated in {@code BigDecimal} directly.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class DecimalAccumulator {
+    
+    private boolean accumulated;
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        accumulated = true;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            add(((Number) value).longValue());
+        } else {
+            decimalValue = getDecimalValue().add(new BigDecimal(value.toString()));
+        }
+    }
+    
+    private void add(final long addend) {
+        long sum = longValue + addend;
+        if (((longValue ^ sum) & (addend ^ sum)) < 0) {
+            decimalValue = getDecimalValue().add(BigDecimal.valueOf(longValue));
+            longValue = addend;
+        } else {
+            longValue = sum;
+        }
+    }
+    
+    private BigDecimal getDecimalValue() {
+        return null == decimalValue ? BigDecimal.ZERO : decimalValue;
+    }
+    
+    /**
+     * Get accumulated result.
+     * 
+     * @return accumulated result, null if no value added
+     */
+    BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue.add(BigDecimal.valueOf(longValue));
+    }
+}
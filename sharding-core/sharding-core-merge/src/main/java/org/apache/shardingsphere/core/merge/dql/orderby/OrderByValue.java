@@ -22,16 +22,20 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.optimize.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
  * 
+ * <p>
+ * Order by directions and case sensitive of columns are resolved once, order values of each row are read into reused buffer.
+ * Order values of case insensitive string columns are upper cased when read, instead of when compared.
+ * </p>
+ * 
  * @author zhangliang
  * @author yangyi
  */
@@ -40,25 +44,37 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final int[] orderByColumnIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final boolean[] orderValuesCaseSensitive;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
-        this.orderValuesCaseSensitive = getOrderValuesCaseSensitive();
+        int orderByItemSize = orderByItems.size();
+        orderByColumnIndexes = new int[orderByItemSize];
+        orderDirections = new OrderDirection[orderByItemSize];
+        nullOrderDirections = new OrderDirection[orderByItemSize];
+        orderValuesCaseSensitive = new boolean[orderByItemSize];
+        orderValues = new Comparable<?>[orderByItemSize];
+        initOrderByColumns(orderByItems);
     }
     
     @SneakyThrows
-    private List<Boolean> getOrderValuesCaseSensitive() {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
+    private void initOrderByColumns(final Collection<OrderByItem> orderByItems) {
+        int i = 0;
         for (OrderByItem each : orderByItems) {
-            result.add(queryResult.isCaseSensitive(each.getIndex()));
+            orderByColumnIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            orderValuesCaseSensitive[i] = queryResult.isCaseSensitive(each.getIndex());
+            i++;
         }
-        return result;
     }
     
     /**
@@ -69,30 +85,29 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            readOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void readOrderValues() throws SQLException {
+        for (int i = 0; i < orderValues.length; i++) {
+            Object value = queryResult.getValue(orderByColumnIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = !orderValuesCaseSensitive[i] && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = CompareUtil.compareTo(orderValues[i], o.orderValues[i], orderDirections[i], nullOrderDirections[i], true);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
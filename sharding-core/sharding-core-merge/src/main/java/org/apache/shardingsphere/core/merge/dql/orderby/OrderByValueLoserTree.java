@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Internal nodes keep the loser of each match, so replaying the winner after it moved to next row only compares along the path from its leaf to the root,
+ * which needs one comparison per level instead of two for sift down of binary heap.
+ * For equal order by values, the value which is waiting in tree wins the value which is replaying.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[Math.max(1, this.orderByValues.length)];
+        build();
+    }
+    
+    private void build() {
+        if (0 == orderByValues.length) {
+            return;
+        }
+        Arrays.fill(losers, orderByValues.length);
+        for (int i = 0; i < orderByValues.length; i++) {
+            replay(i);
+        }
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + orderByValues.length) >> 1; parent > 0; parent >>= 1) {
+            if (beats(losers[parent], winner)) {
+                int loser = winner;
+                winner = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean beats(final int one, final int another) {
+        if (orderByValues.length == one) {
+            return true;
+        }
+        if (orderByValues.length == another) {
+            return false;
+        }
+        if (exhausted[one] || exhausted[another]) {
+            return !exhausted[one] || exhausted[another] && one < another;
+        }
+        return orderByValues[one].compareTo(orderByValues[another]) <= 0;
+    }
+    
+    /**
+     * Judge is all order by values exhausted or not.
+     * 
+     * @return is all order by values exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[losers[0]];
+    }
+    
+    /**
+     * Get order by value of current winner.
+     * 
+     * @return order by value of current winner, null if all order by values exhausted
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : orderByValues[losers[0]];
+    }
+    
+    /**
+     * Move current winner to next row and replay to find new winner.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        if (isEmpty()) {
+            return;
+        }
+        int winner = losers[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        replay(winner);
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.spill;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External merge sorter for memory query result rows.
+ * 
+ * <p>
+ * Rows are kept in memory until max rows in memory reached, then sorted and spilled into a run file which is only accessible by owner.
+ * Sorted rows are streamed back by merging all run files, run files are deleted after read, or by closing if not read completely.
+ * At most 64 run files are opened at the same time, if there are more run files, they are merged into larger run files in passes first.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ExternalMergeSorter implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int MAX_MERGE_FAN_IN = 64;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int maxRowsInMemory;
+    
+    private final List<MemoryQueryResultRow> rows;
+    
+    private final List<File> runFiles = new LinkedList<>();
+    
+    private final List<RunReader> runReaders = new LinkedList<>();
+    
+    public ExternalMergeSorter(final Comparator<MemoryQueryResultRow> comparator, final int maxRowsInMemory) {
+        this.comparator = comparator;
+        this.maxRowsInMemory = maxRowsInMemory;
+        rows = new ArrayList<>(Math.min(maxRowsInMemory, 1024));
+    }
+    
+    /**
+     * Add row.
+     * 
+     * @param row row to be added
+     * @throws SQLException SQL exception
+     */
+    public void add(final MemoryQueryResultRow row) throws SQLException {
+        rows.add(row);
+        if (rows.size() >= maxRowsInMemory) {
+            spill();
+        }
+    }
+    
+    /**
+     * Judge is rows spilled or not.
+     * 
+     * @return is rows spilled or not
+     */
+    public boolean isSpilled() {
+        return !runFiles.isEmpty();
+    }
+    
+    /**
+     * Sort rows and spill them into a run file.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void spill() throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Collections.sort(rows, comparator);
+        File runFile = null;
+        try {
+            runFile = createRunFile();
+            try (DataOutputStream output = createRunFileOutput(runFile)) {
+                for (MemoryQueryResultRow each : rows) {
+                    SpillRowCodec.write(output, getData(each));
+                }
+            }
+        } catch (final IOException ex) {
+            if (null != runFile) {
+                runFile.delete();
+            }
+            throw new SQLException("Can not spill rows for merging", ex);
+        }
+        runFiles.add(runFile);
+        rows.clear();
+    }
+    
+    private File createRunFile() throws IOException {
+        return Files.createTempFile("sharding-merge-", ".run").toFile();
+    }
+    
+    private DataOutputStream createRunFileOutput(final File runFile) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(runFile), BUFFER_SIZE));
+    }
+    
+    private Object[] getData(final MemoryQueryResultRow row) {
+        Object[] result = new Object[row.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    /**
+     * Get sorted rows.
+     * 
+     * @return sorted rows
+     * @throws SQLException SQL exception
+     */
+    public Iterator<MemoryQueryResultRow> sort() throws SQLException {
+        if (runFiles.isEmpty()) {
+            Collections.sort(rows, comparator);
+            return rows.iterator();
+        }
+        spill();
+        try {
+            mergeRuns();
+            return new MergedRunIterator(runFiles);
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException("Can not read spilled rows for merging", ex);
+        }
+    }
+    
+    private void mergeRuns() throws IOException {
+        while (runFiles.size() > MAX_MERGE_FAN_IN) {
+            int unmergedRunFileCount = runFiles.size();
+            while (unmergedRunFileCount > 0) {
+                int fanIn = Math.min(MAX_MERGE_FAN_IN, unmergedRunFileCount);
+                if (1 == fanIn) {
+                    runFiles.add(runFiles.remove(0));
+                } else {
+                    mergeRuns(new ArrayList<>(runFiles.subList(0, fanIn)));
+                    runFiles.subList(0, fanIn).clear();
+                }
+                unmergedRunFileCount -= fanIn;
+            }
+        }
+    }
+    
+    private void mergeRuns(final List<File> mergingRunFiles) throws IOException {
+        File runFile = createRunFile();
+        runFiles.add(runFile);
+        try (DataOutputStream output = createRunFileOutput(runFile)) {
+            Iterator<MemoryQueryResultRow> mergedRows = new MergedRunIterator(mergingRunFiles);
+            while (mergedRows.hasNext()) {
+                SpillRowCodec.write(output, getData(mergedRows.next()));
+            }
+        }
+        runReaders.clear();
+    }
+    
+    /**
+     * Close opened run files and delete all run files.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Override
+    public void close() throws SQLException {
+        IOException exception = null;
+        for (RunReader each : runReaders) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                exception = ex;
+            }
+        }
+        runReaders.clear();
+        for (File each : runFiles) {
+            each.delete();
+        }
+        runFiles.clear();
+        rows.clear();
+        if (null != exception) {
+            throw new SQLException("Can not close spilled rows for merging", exception);
+        }
+    }
+    
+    private final class MergedRunIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final PriorityQueue<RunReader> queue;
+        
+        private MergedRunIterator(final List<File> mergingRunFiles) throws IOException {
+            queue = new PriorityQueue<>(mergingRunFiles.size());
+            int index = 0;
+            for (File each : mergingRunFiles) {
+                RunReader runReader = new RunReader(each, index++);
+                runReaders.add(runReader);
+                if (runReader.next()) {
+                    queue.offer(runReader);
+                }
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+        
+        @SneakyThrows
+        @Override
+        public MemoryQueryResultRow next() {
+            if (queue.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            RunReader runReader = queue.poll();
+            MemoryQueryResultRow result = runReader.getCurrentRow();
+            if (runReader.next()) {
+                queue.offer(runReader);
+            }
+            return result;
+        }
+        
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+    }
+    
+    private final class RunReader implements Comparable<RunReader> {
+        
+        private final File runFile;
+        
+        private final int index;
+        
+        private final DataInputStream input;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        private RunReader(final File runFile, final int index) throws IOException {
+            this.runFile = runFile;
+            this.index = index;
+            input = new DataInputStream(new BufferedInputStream(new FileInputStream(runFile), BUFFER_SIZE));
+        }
+        
+        private MemoryQueryResultRow getCurrentRow() {
+            return currentRow;
+        }
+        
+        private boolean next() throws IOException {
+            try {
+                currentRow = new MemoryQueryResultRow(SpillRowCodec.read(input));
+                return true;
+            } catch (final EOFException ex) {
+                close();
+                currentRow = null;
+                return false;
+            }
+        }
+        
+        private void close() throws IOException {
+            try {
+                input.close();
+            } finally {
+                runFile.delete();
+            }
+        }
+        
+        @Override
+        public int compareTo(final RunReader o) {
+            int result = comparator.compare(currentRow, o.currentRow);
+            return 0 == result ? Integer.compare(index, o.index) : result;
+        }
+    }
+}
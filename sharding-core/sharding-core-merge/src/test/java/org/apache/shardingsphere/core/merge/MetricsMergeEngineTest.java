@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge;
+
+import org.apache.shardingsphere.core.metrics.MetricsCounter;
+import org.apache.shardingsphere.core.metrics.MetricsSnapshot;
+import org.apache.shardingsphere.core.metrics.MetricsStage;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MetricsMergeEngineTest {
+    
+    @Before
+    public void setUp() {
+        ShardingMetrics.getInstance().setEnabled(true);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingMetrics.getInstance().setEnabled(false);
+    }
+    
+    @Test
+    public void assertMerge() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, true, true, false);
+        MergeEngine mergeEngine = mock(MergeEngine.class);
+        when(mergeEngine.merge()).thenReturn(mergedResult);
+        MetricsSnapshot previous = ShardingMetrics.getInstance().getSnapshot();
+        MergedResult actual = new MetricsMergeEngine(mergeEngine).merge();
+        while (actual.next()) {
+            continue;
+        }
+        assertFalse(actual.next());
+        MetricsSnapshot metrics = ShardingMetrics.getInstance().getSnapshot().minus(previous);
+        assertThat(metrics.getLatencies().get(MetricsStage.MERGE).getTotalCount(), is(1L));
+        assertThat(metrics.getCounters().get(MetricsCounter.MERGED_ROWS), is(3L));
+    }
+    
+    @Test
+    public void assertRowsNotRecordedBeforeLastRow() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true);
+        MergeEngine mergeEngine = mock(MergeEngine.class);
+        when(mergeEngine.merge()).thenReturn(mergedResult);
+        MetricsSnapshot previous = ShardingMetrics.getInstance().getSnapshot();
+        MergedResult actual = new MetricsMergeEngine(mergeEngine).merge();
+        assertTrue(actual.next());
+        assertThat(ShardingMetrics.getInstance().getSnapshot().minus(previous).getCounters().get(MetricsCounter.MERGED_ROWS), is(0L));
+    }
+}
@@ -41,6 +41,8 @@ import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCo
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
@@ -49,12 +51,16 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -149,4 +155,88 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        mockRows(resultSets.get(0), new Object[][] {{10, 0, 1, 2, 20}, {5, 0, 2, 1, 5}});
+        mockRows(resultSets.get(1), new Object[][] {{1, 0, 3, 1, 7}, {4, 0, 1, 2, 10}});
+        mockRows(resultSets.get(2), new Object[][] {{3, 0, 2, 3, 15}});
+        MergedResult actual = new GroupByMemoryMergedResult(createColumnLabelIndexMap(), queryResults, createSelectSQLStatementContextWithDerivedIndexes(), 1);
+        assertTrue(actual.next());
+        assertRow(actual, 1, "7.0000", 3, 1, 7);
+        assertTrue(actual.next());
+        assertRow(actual, 8, "5.0000", 2, 4, 20);
+        assertTrue(actual.next());
+        assertRow(actual, 14, "7.5000", 1, 4, 30);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithDecimalGroupByValuesOfDifferentScales() throws SQLException {
+        mockRows(resultSets.get(0), new Object[][] {{10, 0, new BigDecimal("1"), 2, 20}, {5, 0, new BigDecimal("2.0"), 1, 5}});
+        mockRows(resultSets.get(1), new Object[][] {{1, 0, new BigDecimal("3"), 1, 7}, {4, 0, new BigDecimal("1.00"), 2, 10}});
+        mockRows(resultSets.get(2), new Object[][] {{3, 0, new BigDecimal("2"), 3, 15}});
+        MergedResult actual = new GroupByMemoryMergedResult(createColumnLabelIndexMap(), queryResults, createSelectSQLStatementContextWithDerivedIndexes());
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(1)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(8)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(14)));
+        assertFalse(actual.next());
+    }
+    
+    private void mockRows(final ResultSet resultSet, final Object[][] rows) throws SQLException {
+        final AtomicInteger cursor = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return cursor.incrementAndGet() < rows.length;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[cursor.get()][(Integer) invocation.getArguments()[0] - 1];
+            }
+        });
+    }
+    
+    private void assertRow(final MergedResult actual, final int count, final String avg, final int id, final int derivedCount, final int derivedSum) throws SQLException {
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat((BigDecimal) actual.getValue(2, Object.class), is(new BigDecimal(avg)));
+        assertThat((Integer) actual.getValue(3, Object.class), is(id));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(derivedCount)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(derivedSum)));
+    }
+    
+    private Map<String, Integer> createColumnLabelIndexMap() {
+        Map<String, Integer> result = new HashMap<>(5, 1);
+        result.put("COUNT(*)", 1);
+        result.put("AVG(num)", 2);
+        result.put("id", 3);
+        result.put("AVG_DERIVED_COUNT_0", 4);
+        result.put("AVG_DERIVED_SUM_0", 5);
+        return result;
+    }
+    
+    private SelectSQLStatementContext createSelectSQLStatementContextWithDerivedIndexes() {
+        AggregationProjection countProjection = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        countProjection.setIndex(1);
+        AggregationProjection avgProjection = new AggregationProjection(AggregationType.AVG, "(num)", null);
+        avgProjection.setIndex(2);
+        AggregationProjection derivedCountProjection = new AggregationProjection(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0");
+        derivedCountProjection.setIndex(4);
+        avgProjection.getDerivedAggregationProjections().add(derivedCountProjection);
+        AggregationProjection derivedSumProjection = new AggregationProjection(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
+        derivedSumProjection.setIndex(5);
+        avgProjection.getDerivedAggregationProjections().add(derivedSumProjection);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.<Projection>asList(countProjection, avgProjection));
+        return new SelectSQLStatementContext(new SelectStatement(),
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
 }
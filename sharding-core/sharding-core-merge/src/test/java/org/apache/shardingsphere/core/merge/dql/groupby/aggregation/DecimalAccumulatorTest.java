@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class DecimalAccumulatorTest {
+    
+    @Test
+    public void assertGetResultWithoutValue() {
+        assertThat(new DecimalAccumulator().getResult(), nullValue());
+    }
+    
+    @Test
+    public void assertAddIntegralValues() {
+        DecimalAccumulator actual = new DecimalAccumulator();
+        actual.add(1);
+        actual.add(2L);
+        actual.add((short) 3);
+        assertThat(actual.getResult(), is(new BigDecimal("6")));
+    }
+    
+    @Test
+    public void assertAddIntegralValuesWithOverflow() {
+        DecimalAccumulator actual = new DecimalAccumulator();
+        actual.add(Long.MAX_VALUE);
+        actual.add(Long.MAX_VALUE);
+        actual.add(2L);
+        assertThat(actual.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).multiply(new BigDecimal("2")).add(new BigDecimal("2"))));
+    }
+    
+    @Test
+    public void assertAddMixedValues() {
+        DecimalAccumulator actual = new DecimalAccumulator();
+        actual.add(1);
+        actual.add(new BigDecimal("1.50"));
+        actual.add(2.25D);
+        assertThat(actual.getResult(), is(new BigDecimal("4.75")));
+    }
+}
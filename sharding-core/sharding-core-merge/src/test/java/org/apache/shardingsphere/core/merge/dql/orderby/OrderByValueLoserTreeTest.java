@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.optimize.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertNextWithoutOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.<OrderByValue>emptyList());
+        assertTrue(actual.isEmpty());
+        assertThat(actual.peek(), nullValue());
+        actual.next();
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextForAsc() throws SQLException {
+        assertMerge(OrderDirection.ASC, new int[][] {{1, 4, 7}, {2, 5, 8, 9}, {3}, {0, 6}, {10}}, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+    
+    @Test
+    public void assertNextForDesc() throws SQLException {
+        assertMerge(OrderDirection.DESC, new int[][] {{7, 4, 1}, {3, 2}, {6, 5, 0}}, 7, 6, 5, 4, 3, 2, 1, 0);
+    }
+    
+    @Test
+    public void assertNextWithSingleOrderByValue() throws SQLException {
+        assertMerge(OrderDirection.ASC, new int[][] {{1, 2, 3}}, 1, 2, 3);
+    }
+    
+    private void assertMerge(final OrderDirection orderDirection, final int[][] shardValues, final int... expected) throws SQLException {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        List<OrderByValue> orderByValues = new ArrayList<>(shardValues.length);
+        for (int[] each : shardValues) {
+            OrderByValue orderByValue = new OrderByValue(new TestQueryResult(mockResultSet(each)), Collections.singletonList(orderByItem));
+            assertTrue(orderByValue.next());
+            orderByValues.add(orderByValue);
+        }
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        for (int each : expected) {
+            assertFalse(actual.isEmpty());
+            assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is((Object) each));
+            actual.next();
+        }
+        assertTrue(actual.isEmpty());
+    }
+    
+    private ResultSet mockResultSet(final int... values) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.getMetaData()).thenReturn(mock(ResultSetMetaData.class));
+        final int[] cursor = new int[1];
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] <= values.length;
+            }
+        });
+        when(result.getObject(1)).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return values[cursor[0] - 1];
+            }
+        });
+        return result;
+    }
+}
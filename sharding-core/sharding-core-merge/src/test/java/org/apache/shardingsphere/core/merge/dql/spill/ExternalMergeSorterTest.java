@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.spill;
+
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ExternalMergeSorterTest {
+    
+    @Test
+    public void assertSortInMemory() throws SQLException {
+        ExternalMergeSorter sorter = new ExternalMergeSorter(new FirstCellComparator(), 10);
+        addRows(sorter, 3, 1, 2);
+        assertFalse(sorter.isSpilled());
+        assertRows(sorter.sort(), 1, 2, 3);
+    }
+    
+    @Test
+    public void assertSortWithSpill() throws SQLException {
+        ExternalMergeSorter sorter = new ExternalMergeSorter(new FirstCellComparator(), 2);
+        addRows(sorter, 5, 3, 4, 1, 2, 3);
+        assertTrue(sorter.isSpilled());
+        assertRows(sorter.sort(), 1, 2, 3, 3, 4, 5);
+    }
+    
+    @Test
+    public void assertSortWithMultiplePassMerge() throws SQLException {
+        int runFileCount = getRunFileCount();
+        ExternalMergeSorter sorter = new ExternalMergeSorter(new FirstCellComparator(), 1);
+        int[] values = new int[200];
+        int[] expected = new int[200];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values.length - 1 - i;
+            expected[i] = i;
+        }
+        addRows(sorter, values);
+        assertThat(getRunFileCount(), is(runFileCount + 200));
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertThat(getRunFileCount(), is(runFileCount + 4));
+        assertRows(actual, expected);
+        assertThat(getRunFileCount(), is(runFileCount));
+    }
+    
+    @Test
+    public void assertCloseBeforeSortedRowsRead() throws SQLException {
+        int runFileCount = getRunFileCount();
+        ExternalMergeSorter sorter = new ExternalMergeSorter(new FirstCellComparator(), 2);
+        addRows(sorter, 5, 3, 4, 1, 2, 3);
+        assertThat(getRunFileCount(), is(runFileCount + 3));
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertTrue(actual.hasNext());
+        actual.next();
+        sorter.close();
+        assertThat(getRunFileCount(), is(runFileCount));
+    }
+    
+    private int getRunFileCount() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.startsWith("sharding-merge-");
+            }
+        });
+        return null == result ? 0 : result.length;
+    }
+    
+    private void addRows(final ExternalMergeSorter sorter, final int... values) throws SQLException {
+        for (int each : values) {
+            sorter.add(new MemoryQueryResultRow(new Object[] {each, "row_" + each}));
+        }
+    }
+    
+    private void assertRows(final Iterator<MemoryQueryResultRow> actual, final int... expected) {
+        for (int each : expected) {
+            assertTrue(actual.hasNext());
+            MemoryQueryResultRow row = actual.next();
+            assertThat((Integer) row.getCell(1), is(each));
+            assertThat((String) row.getCell(2), is("row_" + each));
+        }
+        assertFalse(actual.hasNext());
+    }
+    
+    private static final class FirstCellComparator implements Comparator<MemoryQueryResultRow> {
+        
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            return ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1));
+        }
+    }
+}
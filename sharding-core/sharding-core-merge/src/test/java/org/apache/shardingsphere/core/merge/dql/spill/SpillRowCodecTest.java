@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.spill;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        Object[] expected = new Object[] {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.5D, new BigDecimal("-7.25"), new BigInteger("8"), "中文", 
+            new Date(1000L), new Time(2000L), timestamp, new java.util.Date(3000L), new byte[] {9, 10}};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(bytes), expected);
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertThat(actual.length, is(expected.length));
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] instanceof byte[]) {
+                assertTrue(Arrays.equals((byte[]) actual[i], (byte[]) expected[i]));
+            } else {
+                assertThat(actual[i], is(expected[i]));
+            }
+        }
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertWriteUnsupportedType() throws IOException {
+        SpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[] {Arrays.asList("a", "b")});
+    }
+}
@@ -17,9 +17,15 @@
 
 package org.apache.shardingsphere.core.parse;
 
-import com.google.common.base.Optional;
+import com.google.common.base.Charsets;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.metrics.MetricsCounter;
+import org.apache.shardingsphere.core.metrics.MetricsStage;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
 import org.apache.shardingsphere.core.parse.cache.SQLParseResultCache;
+import org.apache.shardingsphere.core.parse.cache.SQLParseTemplateCache;
 import org.apache.shardingsphere.core.parse.core.SQLParseKernel;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.core.parse.hook.ParsingHook;
@@ -27,6 +33,13 @@ import org.apache.shardingsphere.core.parse.hook.SPIParsingHook;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * SQL parse engine.
  *
@@ -35,10 +48,24 @@ import org.apache.shardingsphere.spi.database.DatabaseType;
 @RequiredArgsConstructor
 public final class SQLParseEngine {
     
+    private static final String WARM_UP_SQL_FILE = "META-INF/parsing-warm-up/warm-up-sql.txt";
+    
     private final DatabaseType databaseType;
     
+    private final boolean sllPredictionEnabled;
+    
+    @Getter
     private final SQLParseResultCache cache = new SQLParseResultCache();
     
+    @Getter
+    private final SQLParseTemplateCache templateCache = new SQLParseTemplateCache();
+    
+    private final AtomicBoolean warmedUp = new AtomicBoolean();
+    
+    public SQLParseEngine(final DatabaseType databaseType) {
+        this(databaseType, false);
+    }
+    
     /**
      * Parse SQL.
      *
@@ -49,8 +76,10 @@ public final class SQLParseEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         ParsingHook parsingHook = new SPIParsingHook();
         parsingHook.start(sql);
+        long startNanos = ShardingMetrics.getInstance().startTiming();
         try {
             SQLStatement result = parse0(sql, useCache);
+            ShardingMetrics.getInstance().finishTiming(MetricsStage.PARSE, startNanos);
             parsingHook.finishSuccess(result);
             return result;
             // CHECKSTYLE:OFF
@@ -61,17 +90,57 @@ public final class SQLParseEngine {
         }
     }
     
-    private SQLStatement parse0(final String sql, final boolean useCache) {
-        if (useCache) {
-            Optional<SQLStatement> cachedSQLStatement = cache.getSQLStatement(sql);
-            if (cachedSQLStatement.isPresent()) {
-                return cachedSQLStatement.get();
+    /**
+     * Warm up parser with representative SQLs.
+     * 
+     * <p>
+     * Prediction DFA of parser is shared by all parsers of same database type, 
+     * warm up builds DFA before application's SQLs arrive, so latency of first SQLs is same as steady state.
+     * Warm up is done only once for each engine, and unsupported SQLs are ignored.
+     * </p>
+     */
+    public void warmUp() {
+        if (!warmedUp.compareAndSet(false, true)) {
+            return;
+        }
+        for (String each : loadWarmUpSQLs()) {
+            try {
+                new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, each, null, sllPredictionEnabled).parse();
+                // CHECKSTYLE:OFF
+            } catch (final Exception ignored) {
+                // CHECKSTYLE:ON
+            }
+        }
+    }
+    
+    @SneakyThrows
+    private Collection<String> loadWarmUpSQLs() {
+        Collection<String> result = new LinkedList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(SQLParseEngine.class.getClassLoader().getResourceAsStream(WARM_UP_SQL_FILE), Charsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                if (!line.trim().isEmpty() && !line.startsWith("#")) {
+                    result.add(line.trim());
+                }
             }
         }
-        SQLStatement result = new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
-        if (useCache) {
-            cache.put(sql, result);
+        return result;
+    }
+    
+    private SQLStatement parse0(final String sql, final boolean useCache) {
+        if (!useCache) {
+            return new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql, templateCache, sllPredictionEnabled).parse();
         }
+        final boolean[] parsed = new boolean[1];
+        SQLStatement result = cache.getSQLStatement(sql, new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                parsed[0] = true;
+                return new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql, templateCache, sllPredictionEnabled).parse();
+            }
+        });
+        ShardingMetrics.getInstance().recordCount(parsed[0] ? MetricsCounter.PARSE_CACHE_MISS : MetricsCounter.PARSE_CACHE_HIT, 1L);
         return result;
     }
 }
@@ -32,6 +32,8 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParseEngineFactory {
     
+    private static final String SLL_PREDICTION_KEY_SUFFIX = "-SLL";
+    
     private static final Map<String, SQLParseEngine> ENGINES = new ConcurrentHashMap<>();
     
     /**
@@ -41,15 +43,27 @@ public final class SQLParseEngineFactory {
      * @return SQL parse engine
      */
     public static SQLParseEngine getSQLParseEngine(final DatabaseType databaseType) {
-        if (ENGINES.containsKey(databaseType.getName())) {
-            return ENGINES.get(databaseType.getName());
+        return getSQLParseEngine(databaseType, false);
+    }
+    
+    /**
+     * Get SQL parse engine.
+     *
+     * @param databaseType database type
+     * @param sllPredictionEnabled parse with SLL prediction mode first or not
+     * @return SQL parse engine
+     */
+    public static SQLParseEngine getSQLParseEngine(final DatabaseType databaseType, final boolean sllPredictionEnabled) {
+        String key = sllPredictionEnabled ? databaseType.getName() + SLL_PREDICTION_KEY_SUFFIX : databaseType.getName();
+        if (ENGINES.containsKey(key)) {
+            return ENGINES.get(key);
         }
         synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseType.getName())) {
-                return ENGINES.get(databaseType.getName());
+            if (ENGINES.containsKey(key)) {
+                return ENGINES.get(key);
             }
-            SQLParseEngine result = new SQLParseEngine(databaseType);
-            ENGINES.put(databaseType.getName(), result);
+            SQLParseEngine result = new SQLParseEngine(databaseType, sllPredictionEnabled);
+            ENGINES.put(key, result);
             return result;
         }
     }
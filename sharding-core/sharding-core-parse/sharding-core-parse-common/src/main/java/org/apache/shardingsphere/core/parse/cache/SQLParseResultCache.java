@@ -18,21 +18,43 @@
 package org.apache.shardingsphere.core.parse.cache;
 
 import com.google.common.base.Optional;
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * SQL parse result cache.
+ * 
+ * <p>
+ * Cache is bounded by count of cached SQL statements, least recently used entries are evicted first.
+ * Memory of each entry depends on SQL and its parsed statement tree, so the bound is not a limit of bytes.
+ * </p>
  *
  * @author zhangliang
  * @author zhaojun
  */
 public final class SQLParseResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    /**
+     * Default maximum count of cached SQL statements.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 65535L;
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    public SQLParseResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLParseResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -51,13 +73,46 @@ public final class SQLParseResultCache {
      * @return SQL statement
      */
     public Optional<SQLStatement> getSQLStatement(final String sql) {
-        return Optional.fromNullable(cache.get(sql));
+        return Optional.fromNullable(cache.getIfPresent(sql));
+    }
+    
+    /**
+     * Get SQL statement, load and put it into cache if absent.
+     *
+     * @param sql SQL
+     * @param loader loader to parse SQL statement if absent
+     * @return SQL statement
+     */
+    public SQLStatement getSQLStatement(final String sql, final Callable<SQLStatement> loader) {
+        try {
+            return cache.get(sql, loader);
+        } catch (final UncheckedExecutionException | ExecutionException ex) {
+            throw Throwables.propagate(ex.getCause());
+        }
+    }
+    
+    /**
+     * Get statistics of cache.
+     * 
+     * @return statistics of hit, miss, eviction and load time
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get count of cached SQL statements.
+     * 
+     * @return count of cached SQL statements
+     */
+    public long size() {
+        return cache.size();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.shardingsphere.core.parse.core.parser.SQLParseTemplate;
+
+/**
+ * SQL parse template cache.
+ * 
+ * <p>
+ * Key of cache is SQL normalized by lexer, which literals are replaced by their token types.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class SQLParseTemplateCache {
+    
+    /**
+     * Default maximum size of cache.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 4096L;
+    
+    private final Cache<String, SQLParseTemplate> cache;
+    
+    public SQLParseTemplateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLParseTemplateCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Put normalized SQL and parse template into cache.
+     * 
+     * @param normalizedSQL normalized SQL
+     * @param parseTemplate parse template
+     */
+    public void put(final String normalizedSQL, final SQLParseTemplate parseTemplate) {
+        cache.put(normalizedSQL, parseTemplate);
+    }
+    
+    /**
+     * Get parse template.
+     *
+     * @param normalizedSQL normalized SQL
+     * @return parse template
+     */
+    public Optional<SQLParseTemplate> getParseTemplate(final String normalizedSQL) {
+        return Optional.fromNullable(cache.getIfPresent(normalizedSQL));
+    }
+    
+    /**
+     * Get statistics of cache.
+     * 
+     * @return statistics of hit, miss and eviction
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
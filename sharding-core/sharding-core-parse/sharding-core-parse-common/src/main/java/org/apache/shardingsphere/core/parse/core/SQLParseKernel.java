@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.parse.core;
 
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.cache.SQLParseTemplateCache;
 import org.apache.shardingsphere.core.parse.core.extractor.SQLSegmentsExtractorEngine;
 import org.apache.shardingsphere.core.parse.core.filler.SQLStatementFillerEngine;
 import org.apache.shardingsphere.core.parse.core.parser.SQLAST;
@@ -46,8 +47,13 @@ public final class SQLParseKernel {
     private final SQLStatementFillerEngine fillerEngine;
     
     public SQLParseKernel(final ParseRuleRegistry parseRuleRegistry, final DatabaseType databaseType, final String sql) {
+        this(parseRuleRegistry, databaseType, sql, null, false);
+    }
+    
+    public SQLParseKernel(final ParseRuleRegistry parseRuleRegistry, final DatabaseType databaseType, final String sql, 
+                          final SQLParseTemplateCache parseTemplateCache, final boolean sllPredictionEnabled) {
         DatabaseType trunkDatabaseType = DatabaseTypes.getTrunkDatabaseType(databaseType.getName());
-        parserEngine = new SQLParserEngine(parseRuleRegistry, trunkDatabaseType, sql);
+        parserEngine = new SQLParserEngine(parseRuleRegistry, trunkDatabaseType, sql, parseTemplateCache, sllPredictionEnabled);
         extractorEngine = new SQLSegmentsExtractorEngine();
         fillerEngine = new SQLStatementFillerEngine(parseRuleRegistry, trunkDatabaseType);
     }
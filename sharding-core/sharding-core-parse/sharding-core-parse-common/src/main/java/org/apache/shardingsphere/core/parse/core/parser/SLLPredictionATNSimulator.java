@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import lombok.Getter;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.dfa.DFAState;
+
+/**
+ * ATN simulator with SLL prediction mode.
+ *
+ * <p>
+ * SLL prediction resolves a conflict by the minimum alternative without full context, which may be different with LL prediction.
+ * Decisions without conflict are the same as LL prediction, so SLL parse result can be trusted only if no conflict was met.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class SLLPredictionATNSimulator extends ParserATNSimulator {
+    
+    @Getter
+    private boolean conflictMet;
+    
+    SLLPredictionATNSimulator(final Parser parser, final ParserATNSimulator simulator) {
+        super(parser, parser.getATN(), simulator.decisionToDFA, simulator.getSharedContextCache());
+        setPredictionMode(PredictionMode.SLL);
+    }
+    
+    @Override
+    protected DFAState getExistingTargetState(final DFAState previousD, final int t) {
+        return checkConflict(super.getExistingTargetState(previousD, t));
+    }
+    
+    @Override
+    protected DFAState computeTargetState(final DFA dfa, final DFAState previousD, final int t) {
+        return checkConflict(super.computeTargetState(dfa, previousD, t));
+    }
+    
+    private DFAState checkConflict(final DFAState targetState) {
+        if (null != targetState && targetState.requiresFullContext) {
+            conflictMet = true;
+        }
+        return targetState;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ErrorNodeImpl;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse template of SQL.
+ * 
+ * <p>
+ * SQLs which are different in literals only have same token types, so parser makes same decisions for them.
+ * Template keeps parse tree of one of them, and binds tokens of others to a copy of the tree without parsing again.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class SQLParseTemplate {
+    
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private final ParserRuleContext parseTree;
+    
+    private final int[] tokenOrdinals;
+    
+    public SQLParseTemplate(final ParserRuleContext parseTree, final List<Token> tokens) {
+        this.parseTree = parseTree;
+        tokenOrdinals = new int[tokens.get(tokens.size() - 1).getTokenIndex() + 1];
+        int ordinal = 0;
+        for (Token each : tokens) {
+            tokenOrdinals[each.getTokenIndex()] = ordinal++;
+        }
+    }
+    
+    /**
+     * Bind tokens to copy of parse tree.
+     * 
+     * @param tokens tokens on default channel, which must be same types with tokens of template
+     * @return parse tree of tokens
+     */
+    public ParserRuleContext bind(final List<Token> tokens) {
+        return copy(parseTree, null, tokens);
+    }
+    
+    @SneakyThrows
+    private ParserRuleContext copy(final ParserRuleContext source, final ParserRuleContext parent, final List<Token> tokens) {
+        ParserRuleContext result = (ParserRuleContext) getConstructor(source.getClass()).newInstance(parent, source.invokingState);
+        result.start = getToken(source.start, tokens);
+        result.stop = getToken(source.stop, tokens);
+        result.exception = source.exception;
+        if (null == source.children) {
+            return result;
+        }
+        for (ParseTree each : source.children) {
+            if (each instanceof ParserRuleContext) {
+                result.addChild(copy((ParserRuleContext) each, result, tokens));
+            } else if (each instanceof ErrorNode) {
+                result.addErrorNode(createErrorNode(getToken(((TerminalNode) each).getSymbol(), tokens), result));
+            } else {
+                result.addChild(createTerminalNode(getToken(((TerminalNode) each).getSymbol(), tokens), result));
+            }
+        }
+        return result;
+    }
+    
+    private Constructor<?> getConstructor(final Class<?> parserRuleContextClass) throws NoSuchMethodException {
+        Constructor<?> result = CONSTRUCTORS.get(parserRuleContextClass);
+        if (null == result) {
+            result = parserRuleContextClass.getConstructor(ParserRuleContext.class, int.class);
+            CONSTRUCTORS.put(parserRuleContextClass, result);
+        }
+        return result;
+    }
+    
+    private Token getToken(final Token templateToken, final List<Token> tokens) {
+        if (null == templateToken || templateToken.getTokenIndex() < 0 || templateToken.getTokenIndex() >= tokenOrdinals.length) {
+            return templateToken;
+        }
+        return tokens.get(tokenOrdinals[templateToken.getTokenIndex()]);
+    }
+    
+    private TerminalNode createTerminalNode(final Token token, final ParserRuleContext parent) {
+        TerminalNodeImpl result = new TerminalNodeImpl(token);
+        result.parent = parent;
+        return result;
+    }
+    
+    private ErrorNode createErrorNode(final Token token, final ParserRuleContext parent) {
+        ErrorNodeImpl result = new ErrorNodeImpl(token);
+        result.parent = parent;
+        return result;
+    }
+}
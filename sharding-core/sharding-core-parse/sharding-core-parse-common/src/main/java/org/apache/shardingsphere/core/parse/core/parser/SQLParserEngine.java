@@ -17,10 +17,24 @@
 
 package org.apache.shardingsphere.core.parse.core.parser;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.core.parse.cache.SQLParseTemplateCache;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
@@ -28,31 +42,51 @@ import org.apache.shardingsphere.core.parse.core.rule.registry.statement.SQLStat
 import org.apache.shardingsphere.core.parse.exception.SQLParsingException;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * SQL parser engine.
+ * 
+ * <p>
+ * If SLL prediction is enabled, SQL is parsed with SLL prediction mode first, which is fast and enough for most SQLs,
+ * and parsed again with full LL prediction mode if SLL prediction failed or met a conflict.
+ * SLL prediction may choose different alternative with LL prediction only for conflicts, such as MySQL's multiple joins.
+ * </p>
  *
  * @author zhangliang
  */
 @RequiredArgsConstructor
 public final class SQLParserEngine {
     
+    private static final String STRING_LITERALS_TOKEN = "STRING_";
+    
+    private static final String NUMBER_LITERALS_TOKEN = "NUMBER_";
+    
     private final ParseRuleRegistry parseRuleRegistry;
     
     private final DatabaseType databaseType;
     
     private final String sql;
     
+    private final SQLParseTemplateCache parseTemplateCache;
+    
+    private final boolean sllPredictionEnabled;
+    
+    public SQLParserEngine(final ParseRuleRegistry parseRuleRegistry, final DatabaseType databaseType, final String sql) {
+        this(parseRuleRegistry, databaseType, sql, null, false);
+    }
+    
     /**
      * Parse SQL to abstract syntax tree.
      *
      * @return abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        ParseTree parseTree = (null == parseTemplateCache ? execute(SQLParserFactory.newInstance(databaseType, sql)) : parseWithTemplate()).getChild(0);
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
@@ -63,6 +97,85 @@ public final class SQLParserEngine {
         return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree), rule);
     }
     
+    private ParserRuleContext parseWithTemplate() {
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(databaseType, sql);
+        tokenStream.fill();
+        List<Token> tokens = getDefaultChannelTokens(tokenStream.getTokens());
+        String normalizedSQL = getNormalizedSQL(tokens, ((Lexer) tokenStream.getTokenSource()).getVocabulary());
+        Optional<SQLParseTemplate> parseTemplate = parseTemplateCache.getParseTemplate(normalizedSQL);
+        if (parseTemplate.isPresent()) {
+            return parseTemplate.get().bind(tokens);
+        }
+        ParserRuleContext result = execute(SQLParserFactory.newInstance(databaseType, tokenStream));
+        if (!(result.getChild(0) instanceof ErrorNode)) {
+            parseTemplateCache.put(normalizedSQL, new SQLParseTemplate(result, tokens));
+        }
+        return result;
+    }
+    
+    private ParserRuleContext execute(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        if (!sllPredictionEnabled) {
+            setLLPredictionMode(parser);
+            return sqlParser.execute();
+        }
+        Optional<ParserRuleContext> result = executeWithSLLPrediction(sqlParser);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        setLLPredictionMode(parser);
+        parser.reset();
+        return sqlParser.execute();
+    }
+    
+    private Optional<ParserRuleContext> executeWithSLLPrediction(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        ParserATNSimulator simulator = parser.getInterpreter();
+        SLLPredictionATNSimulator sllPredictionSimulator = new SLLPredictionATNSimulator(parser, simulator);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.setInterpreter(sllPredictionSimulator);
+        try {
+            ParserRuleContext result = sqlParser.execute();
+            return sllPredictionSimulator.isConflictMet() ? Optional.<ParserRuleContext>absent() : Optional.of(result);
+        } catch (final ParseCancellationException ex) {
+            return Optional.absent();
+        } finally {
+            parser.setInterpreter(simulator);
+        }
+    }
+    
+    private void setLLPredictionMode(final Parser parser) {
+        parser.removeErrorListeners();
+        parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+    }
+    
+    private List<Token> getDefaultChannelTokens(final List<Token> tokens) {
+        List<Token> result = new ArrayList<>(tokens.size());
+        for (Token each : tokens) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private String getNormalizedSQL(final List<Token> tokens, final Vocabulary vocabulary) {
+        StringBuilder result = new StringBuilder();
+        for (Token each : tokens) {
+            String symbolicName = vocabulary.getSymbolicName(each.getType());
+            if (STRING_LITERALS_TOKEN.equals(symbolicName) || NUMBER_LITERALS_TOKEN.equals(symbolicName)) {
+                result.append('#').append(symbolicName);
+            } else if (Token.EOF != each.getType()) {
+                result.append(each.getText().length()).append(':').append(each.getText());
+            }
+            result.append(' ');
+        }
+        return result.toString();
+    }
+    
     private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode) {
         Collection<ParserRuleContext> placeholderNodes = ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
         Map<ParserRuleContext, Integer> result = new HashMap<>(placeholderNodes.size(), 1);
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.core.parse.core.parser;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.parse.api.SQLParser;
@@ -32,12 +34,19 @@ import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.lang.reflect.Constructor;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * SQL parser factory.
  * 
+ * <p>
+ * Lexer, token stream and parser are reused by each thread, and reset with new input for every SQL.
+ * </p>
+ * 
  * @author duhongjun
  * @author zhangliang
  */
@@ -46,11 +55,25 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> PARSER_ENTRIES = new HashMap<>();
+    
+    private static final ThreadLocal<Map<DatabaseType, ReusableSQLParser>> REUSABLE_PARSERS = new ThreadLocal<Map<DatabaseType, ReusableSQLParser>>() {
+        
+        @Override
+        protected Map<DatabaseType, ReusableSQLParser> initialValue() {
+            return new HashMap<>();
+        }
+    };
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each.getDatabaseType());
             if (!(each instanceof BranchDatabaseType)) {
-                DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
+                DATABASE_TYPES.add(databaseType);
+            }
+            if (!PARSER_ENTRIES.containsKey(databaseType)) {
+                PARSER_ENTRIES.put(databaseType, each);
             }
         }
     }
@@ -72,17 +95,79 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+        return newInstance(databaseType, newTokenStream(databaseType, sql));
+    }
+    
+    /**
+     * New instance of SQL parser with lexed token stream.
+     *
+     * <p>
+     * Parser is reused by current thread, it must not be used after next SQL parsed in same thread.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param tokenStream token stream lexed by {@link #newTokenStream(DatabaseType, String)}
+     * @return SQL parser
+     */
+    public static SQLParser newInstance(final DatabaseType databaseType, final TokenStream tokenStream) {
+        return getReusableSQLParser(databaseType).reset(tokenStream);
+    }
+    
+    /**
+     * New instance of token stream.
+     *
+     * <p>
+     * Token stream is reused by current thread, it must not be used after next SQL lexed in same thread.
+     * Tokens lexed from it are not reused and still valid.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @return token stream
+     */
+    public static CommonTokenStream newTokenStream(final DatabaseType databaseType, final String sql) {
+        return getReusableSQLParser(databaseType).reset(CharStreams.fromString(sql));
+    }
+    
+    private static ReusableSQLParser getReusableSQLParser(final DatabaseType databaseType) {
+        Map<DatabaseType, ReusableSQLParser> reusableParsers = REUSABLE_PARSERS.get();
+        ReusableSQLParser result = reusableParsers.get(databaseType);
+        if (null == result) {
+            result = createReusableSQLParser(databaseType);
+            reusableParsers.put(databaseType, result);
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        return result;
     }
     
     @SneakyThrows
-    private static SQLParser createSQLParser(final String sql, final SQLParserEntry parserEntry) {
-        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
-        return parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+    private static ReusableSQLParser createReusableSQLParser(final DatabaseType databaseType) {
+        SQLParserEntry parserEntry = PARSER_ENTRIES.get(databaseType);
+        if (null == parserEntry) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        }
+        Constructor<? extends Lexer> lexerConstructor = parserEntry.getLexerClass().getConstructor(CharStream.class);
+        Constructor<? extends SQLParser> parserConstructor = parserEntry.getParserClass().getConstructor(TokenStream.class);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexerConstructor.newInstance(CharStreams.fromString("")));
+        return new ReusableSQLParser(tokenStream, parserConstructor.newInstance(tokenStream));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ReusableSQLParser {
+        
+        private final CommonTokenStream tokenStream;
+        
+        private final SQLParser parser;
+        
+        private CommonTokenStream reset(final CharStream charStream) {
+            Lexer lexer = (Lexer) tokenStream.getTokenSource();
+            lexer.setInputStream(charStream);
+            tokenStream.setTokenSource(lexer);
+            return tokenStream;
+        }
+        
+        private SQLParser reset(final TokenStream tokenStream) {
+            ((Parser) parser).setTokenStream(tokenStream);
+            return parser;
+        }
     }
 }
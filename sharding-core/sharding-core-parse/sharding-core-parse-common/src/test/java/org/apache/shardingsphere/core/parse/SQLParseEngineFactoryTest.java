@@ -26,6 +26,7 @@ import java.lang.reflect.Field;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 
 public final class SQLParseEngineFactoryTest {
@@ -42,4 +43,11 @@ public final class SQLParseEngineFactoryTest {
     public void assertGetSQLParseEngine() {
         assertThat(SQLParseEngineFactory.getSQLParseEngine(DatabaseTypes.getTrunkDatabaseType("MySQL")), is(SQLParseEngineFactory.getSQLParseEngine(DatabaseTypes.getTrunkDatabaseType("MySQL"))));
     }
+    
+    @Test
+    public void assertGetSQLParseEngineWithSLLPrediction() {
+        SQLParseEngine actual = SQLParseEngineFactory.getSQLParseEngine(DatabaseTypes.getTrunkDatabaseType("MySQL"), true);
+        assertThat(actual, is(SQLParseEngineFactory.getSQLParseEngine(DatabaseTypes.getTrunkDatabaseType("MySQL"), true)));
+        assertThat(actual, not(SQLParseEngineFactory.getSQLParseEngine(DatabaseTypes.getTrunkDatabaseType("MySQL"))));
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParseEngineTest {
+    
+    @Test
+    public void assertParseWithParseTemplate() {
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+        parseEngine.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'", false);
+        SelectStatement actual = (SelectStatement) parseEngine.parse("SELECT * FROM t_order WHERE order_id = 1000 AND status = 'finished'", false);
+        assertThat(parseEngine.getTemplateCache().getStats().hitCount(), is(1L));
+        WhereSegment whereSegment = actual.findSQLSegment(WhereSegment.class).get();
+        assertThat(whereSegment.getStopIndex(), is(66));
+        PredicateSegment[] predicates = whereSegment.getAndPredicates().iterator().next().getPredicates().toArray(new PredicateSegment[0]);
+        assertLiteralExpression(predicates[0], 39, 42, 1000);
+        assertLiteralExpression(predicates[1], 57, 66, "finished");
+    }
+    
+    @Test
+    public void assertParseWithoutParseTemplate() {
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+        parseEngine.parse("SELECT * FROM t_order WHERE order_id = 1", false);
+        parseEngine.parse("SELECT * FROM t_order WHERE user_id = 1", false);
+        assertThat(parseEngine.getTemplateCache().getStats().hitCount(), is(0L));
+        assertThat(parseEngine.getTemplateCache().getStats().missCount(), is(2L));
+    }
+    
+    @Test
+    public void assertParseWithSLLPrediction() {
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("PostgreSQL"), true);
+        SelectStatement actual = (SelectStatement) parseEngine.parse("SELECT * FROM t_order WHERE order_id = 1000 AND status = 'finished'", false);
+        PredicateSegment[] predicates = actual.findSQLSegment(WhereSegment.class).get().getAndPredicates().iterator().next().getPredicates().toArray(new PredicateSegment[0]);
+        assertLiteralExpression(predicates[0], 39, 42, 1000);
+        assertLiteralExpression(predicates[1], 57, 66, "finished");
+    }
+    
+    @Test
+    public void assertWarmUp() {
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+        parseEngine.warmUp();
+        parseEngine.warmUp();
+        assertThat(parseEngine.getCache().size(), is(0L));
+        assertThat(parseEngine.getTemplateCache().getStats().requestCount(), is(0L));
+    }
+    
+    private void assertLiteralExpression(final PredicateSegment actual, final int startIndex, final int stopIndex, final Object literals) {
+        LiteralExpressionSegment expression = (LiteralExpressionSegment) ((PredicateCompareRightValue) actual.getRightValue()).getExpression();
+        assertThat(expression.getStartIndex(), is(startIndex));
+        assertThat(expression.getStopIndex(), is(stopIndex));
+        assertThat(expression.getLiterals(), is(literals));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserEngineTest {
+    
+    private static final String MULTIPLE_JOINS_SQL = "SELECT i.* FROM t_order o JOIN t_order_item i ON o.user_id = i.user_id AND o.order_id = i.order_id "
+            + "JOIN t_broadcast_table c ON o.status = c.status WHERE o.user_id IN (?, ?) AND o.order_id BETWEEN ? AND ? AND o.status = ? ORDER BY i.item_id";
+    
+    @Test
+    public void assertParseMultipleJoinsWithSLLPrediction() {
+        DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+        String expected = new SQLParserEngine(ParseRuleRegistry.getInstance(), databaseType, MULTIPLE_JOINS_SQL, null, false).parse().getParserRuleContext().toStringTree();
+        assertThat(new SQLParserEngine(ParseRuleRegistry.getInstance(), databaseType, MULTIPLE_JOINS_SQL, null, true).parse().getParserRuleContext().toStringTree(), is(expected));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserFactoryTest {
+    
+    @Test
+    public void assertNewInstanceWithSameThread() {
+        DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+        SQLParser actual = SQLParserFactory.newInstance(databaseType, "SELECT 1");
+        assertThat(actual.execute().getChild(0).getText(), is("SELECT1"));
+        SQLParser expected = SQLParserFactory.newInstance(databaseType, "SELECT 2");
+        assertThat(expected, sameInstance(actual));
+        assertThat(expected.execute().getChild(0).getText(), is("SELECT2"));
+    }
+    
+    @Test
+    public void assertNewInstanceWithDifferentDatabaseTypes() {
+        assertThat(SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT 1"),
+                not(sameInstance(SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("PostgreSQL"), "SELECT 1"))));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertNewInstanceWithUnsupportedDatabaseType() {
+        SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("H2"), "SELECT 1");
+    }
+}
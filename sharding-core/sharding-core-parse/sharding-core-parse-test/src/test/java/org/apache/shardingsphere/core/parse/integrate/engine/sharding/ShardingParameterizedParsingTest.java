@@ -63,4 +63,14 @@ public final class ShardingParameterizedParsingTest {
         SQLStatement sqlStatement = new SQLParseEngine(DatabaseTypes.getTrunkDatabaseType(databaseType)).parse(sql, false);
         new ShardingSQLStatementAssert(sqlStatement, sqlCaseId, sqlCaseType).assertSQLStatement();
     }
+    
+    @Test
+    public void assertSupportedSQLWithParseTemplate() {
+        String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getTrunkDatabaseType(databaseType));
+        parseEngine.parse(sql, false);
+        SQLStatement sqlStatement = parseEngine.parse(sql, false);
+        assertThat(parseEngine.getTemplateCache().getStats().hitCount(), is(1L));
+        new ShardingSQLStatementAssert(sqlStatement, sqlCaseId, sqlCaseType).assertSQLStatement();
+    }
 }
@@ -29,6 +29,11 @@ import java.util.Map;
 
 /**
  * SQL builder.
+ * 
+ * <p>
+ * Logic SQL is compiled into conjunction literals and SQL token literals when build SQL at first time,
+ * only {@code Alterable} SQL tokens are converted to literals again for each routing unit.
+ * </p>
  *
  * @author gaohongtao
  * @author zhangliang
@@ -42,6 +47,12 @@ public final class SQLBuilder {
     
     private final List<SQLToken> sqlTokens;
     
+    private String[] conjunctionLiterals;
+    
+    private String[] constantSQLTokenLiterals;
+    
+    private int lastSQLLength;
+    
     /**
      * Convert to SQL.
      *
@@ -66,23 +77,35 @@ public final class SQLBuilder {
     }
     
     private String createLogicSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
+        if (null == conjunctionLiterals) {
+            compile();
+        }
+        StringBuilder result = new StringBuilder(Math.max(logicSQL.length(), lastSQLLength) + 16);
+        result.append(conjunctionLiterals[0]);
+        int sqlTokenIndex = 0;
         for (SQLToken each : sqlTokens) {
-            result.append(getSQLTokenLiterals(each, routingUnit, logicAndActualTables));
-            result.append(getConjunctionLiterals(each));
+            String sqlTokenLiterals = constantSQLTokenLiterals[sqlTokenIndex];
+            result.append(null == sqlTokenLiterals ? ((Alterable) each).toString(routingUnit, logicAndActualTables) : sqlTokenLiterals);
+            result.append(conjunctionLiterals[++sqlTokenIndex]);
         }
+        lastSQLLength = result.length();
         return result.toString();
     }
     
-    private String getSQLTokenLiterals(final SQLToken sqlToken, final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        return sqlToken instanceof Alterable ? ((Alterable) sqlToken).toString(routingUnit, logicAndActualTables) : sqlToken.toString();
-    }
-    
-    private String getConjunctionLiterals(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
+    private void compile() {
+        String[] sqlTokenLiterals = new String[sqlTokens.size()];
+        String[] conjunctions = new String[sqlTokens.size() + 1];
+        int sqlTokenIndex = 0;
+        int conjunctionStartIndex = 0;
+        for (SQLToken each : sqlTokens) {
+            conjunctions[sqlTokenIndex] = logicSQL.substring(conjunctionStartIndex, each.getStartIndex());
+            sqlTokenLiterals[sqlTokenIndex] = each instanceof Alterable ? null : each.toString();
+            conjunctionStartIndex = Math.min(getStartIndex(each), logicSQL.length());
+            sqlTokenIndex++;
+        }
+        conjunctions[sqlTokenIndex] = logicSQL.substring(conjunctionStartIndex);
+        constantSQLTokenLiterals = sqlTokenLiterals;
+        conjunctionLiterals = conjunctions;
     }
     
     private int getStartIndex(final SQLToken sqlToken) {
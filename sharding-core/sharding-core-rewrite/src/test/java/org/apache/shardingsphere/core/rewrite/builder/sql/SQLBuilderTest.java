@@ -23,7 +23,10 @@ import org.apache.shardingsphere.core.rewrite.token.pojo.impl.TableToken;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -50,4 +53,17 @@ public final class SQLBuilderTest {
     public void assertToSQLWithTokens() {
         assertThat(sqlBuilderWithTokens.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 WHERE order_id > 1"));
     }
+    
+    @Test
+    public void assertToSQLWithTokensForMultipleRoutingUnits() {
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id", 
+                Arrays.<SQLToken>asList(new TableToken(14, 20, "t_order", QuoteCharacter.NONE), new TableToken(29, 40, "t_order_item", QuoteCharacter.NONE)));
+        Map<String, String> logicAndActualTables = new HashMap<>(2, 1);
+        logicAndActualTables.put("t_order", "t_order_0");
+        logicAndActualTables.put("t_order_item", "t_order_item_0");
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_0 o JOIN t_order_item_0 i ON o.order_id = i.order_id"));
+        logicAndActualTables.put("t_order", "t_order_1");
+        logicAndActualTables.put("t_order_item", "t_order_item_1");
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_1 o JOIN t_order_item_1 i ON o.order_id = i.order_id"));
+    }
 }
@@ -48,6 +48,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Standard routing engine.
@@ -188,7 +189,7 @@ public final class StandardRoutingEngine implements RoutingEngine {
         Collection<String> routedDataSources = routeDataSources(tableRule, databaseShardingValues);
         Collection<DataNode> result = new LinkedList<>();
         for (String each : routedDataSources) {
-            result.addAll(routeTables(tableRule, each, tableShardingValues));
+            routeTables(tableRule, each, tableShardingValues, result);
         }
         return result;
     }
@@ -197,22 +198,28 @@ public final class StandardRoutingEngine implements RoutingEngine {
         if (databaseShardingValues.isEmpty()) {
             return tableRule.getActualDatasourceNames();
         }
-        Collection<String> result = new LinkedHashSet<>(shardingRule.getDatabaseShardingStrategy(tableRule).doSharding(tableRule.getActualDatasourceNames(), databaseShardingValues));
+        Collection<String> result = distinct(shardingRule.getDatabaseShardingStrategy(tableRule).doSharding(tableRule.getActualDatasourceNames(), databaseShardingValues));
         Preconditions.checkState(!result.isEmpty(), "no database route info");
         Preconditions.checkState(tableRule.getActualDatasourceNames().containsAll(result), 
                 "Some routed data sources do not belong to configured data sources. routed data sources: `%s`, configured data sources: `%s`", result, tableRule.getActualDatasourceNames());
         return result;
     }
     
-    private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues) {
-        Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
-        Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
-                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
+    private void routeTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues, final Collection<DataNode> result) {
+        if (tableShardingValues.isEmpty()) {
+            Collection<DataNode> actualDataNodes = tableRule.getActualDataNodes(routedDataSource);
+            Preconditions.checkState(!actualDataNodes.isEmpty(), "no table route info");
+            result.addAll(actualDataNodes);
+            return;
+        }
+        Collection<String> routedTables = distinct(shardingRule.getTableShardingStrategy(tableRule).doSharding(tableRule.getActualTableNames(routedDataSource), tableShardingValues));
         Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
-        Collection<DataNode> result = new LinkedList<>();
         for (String each : routedTables) {
-            result.add(new DataNode(routedDataSource, each));
+            result.add(tableRule.getActualDataNode(routedDataSource, each));
         }
-        return result;
+    }
+    
+    private Collection<String> distinct(final Collection<String> shardingResult) {
+        return shardingResult instanceof Set ? shardingResult : new LinkedHashSet<>(shardingResult);
     }
 }
@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.SQLParseEngineFactory;
 import org.apache.shardingsphere.core.rule.BaseRule;
@@ -54,13 +55,25 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
         this.props = new ShardingProperties(null == props ? new Properties() : props);
         this.databaseType = databaseType;
         executeEngine = new ShardingExecuteEngine(this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType);
+        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType, this.props.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSER_SLL_PREDICTION_ENABLED));
+        if (this.props.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSER_WARM_UP_ENABLED)) {
+            parseEngine.warmUp();
+        }
+        if (this.props.<Boolean>getValue(ShardingPropertiesConstant.METRICS_ENABLED)) {
+            ShardingMetrics.getInstance().enableForContext();
+        }
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
     
     @Override
     public void close() throws Exception {
-        executeEngine.close();
+        try {
+            executeEngine.close();
+        } finally {
+            if (props.<Boolean>getValue(ShardingPropertiesConstant.METRICS_ENABLED)) {
+                ShardingMetrics.getInstance().disableForContext();
+            }
+        }
     }
 }
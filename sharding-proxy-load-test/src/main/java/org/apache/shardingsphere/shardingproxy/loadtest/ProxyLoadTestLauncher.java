@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.shardingsphere.core.metrics.HistogramSnapshot;
+import org.apache.shardingsphere.core.metrics.MetricsCounter;
+import org.apache.shardingsphere.core.metrics.MetricsSnapshot;
+import org.apache.shardingsphere.core.metrics.MetricsStage;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+import org.apache.shardingsphere.shardingproxy.loadtest.client.MySQLLoadTestClient;
+import org.apache.shardingsphere.shardingproxy.loadtest.config.ProxyLoadTestConfiguration;
+import org.apache.shardingsphere.shardingproxy.loadtest.proxy.EmbeddedShardingProxy;
+import org.apache.shardingsphere.shardingproxy.loadtest.scenario.LoadTestScenario;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Launcher of proxy load test.
+ *
+ * <p>
+ * Sharding-Proxy is started in the same process with H2 shards, every scenario is driven by concurrent MySQL protocol clients,
+ * and throughput, latency percentiles, latencies of SQL stages and counters of {@code ShardingMetrics} are reported after measurement.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ProxyLoadTestLauncher {
+    
+    private static final String HOST = "127.0.0.1";
+    
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    private final ProxyLoadTestConfiguration config;
+    
+    private final AtomicLong orderIdGenerator = new AtomicLong();
+    
+    /**
+     * Main entrance.
+     *
+     * @param args command line arguments
+     * @throws Exception exception
+     */
+    public static void main(final String[] args) throws Exception {
+        ProxyLoadTestConfiguration config = ProxyLoadTestConfiguration.parse(args);
+        new EmbeddedShardingProxy(config).start();
+        new ProxyLoadTestLauncher(config).run();
+        System.exit(0);
+    }
+    
+    private void run() throws InterruptedException {
+        orderIdGenerator.set((long) config.getShards() * config.getRowsPerShard());
+        for (LoadTestScenario each : config.getScenarios()) {
+            run(each);
+        }
+    }
+    
+    private void run(final LoadTestScenario scenario) throws InterruptedException {
+        log.info("Scenario {}: warming up {} clients for {} seconds.", scenario, config.getConcurrency(), config.getWarmUpSeconds());
+        ScenarioContext context = new ScenarioContext(scenario);
+        Collection<Thread> workers = new ArrayList<>(config.getConcurrency());
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            Thread worker = new Thread(new Worker(context), String.format("LoadTest-%s-%d", scenario, i));
+            worker.start();
+            workers.add(worker);
+        }
+        TimeUnit.SECONDS.sleep(config.getWarmUpSeconds());
+        context.latencyRecorder.reset();
+        MetricsSnapshot previousMetrics = ShardingMetrics.getInstance().getSnapshot();
+        long startNanos = System.nanoTime();
+        context.measuring = true;
+        TimeUnit.SECONDS.sleep(config.getDurationSeconds());
+        context.measuring = false;
+        long elapsedNanos = System.nanoTime() - startNanos;
+        context.running = false;
+        Histogram latency = context.latencyRecorder.getIntervalHistogram();
+        MetricsSnapshot metrics = ShardingMetrics.getInstance().getSnapshot().minus(previousMetrics);
+        for (Thread each : workers) {
+            each.join();
+        }
+        report(context, latency, metrics, elapsedNanos);
+    }
+    
+    private void report(final ScenarioContext context, final Histogram latency, final MetricsSnapshot metrics, final long elapsedNanos) {
+        long operations = context.operations.get();
+        log.info("Scenario {}: qps={}, operations={}, errors={}", context.scenario, String.format("%.1f", operations * 1e9 / elapsedNanos), operations, context.errors.get());
+        log.info("Scenario {}: latency(us) min={}, p50={}, p90={}, p99={}, p99.9={}, max={}, mean={}", context.scenario, latency.getMinValue(), latency.getValueAtPercentile(50),
+                latency.getValueAtPercentile(90), latency.getValueAtPercentile(99), latency.getValueAtPercentile(99.9), latency.getMaxValue(), String.format("%.1f", latency.getMean()));
+        for (Entry<MetricsStage, HistogramSnapshot> entry : metrics.getLatencies().entrySet()) {
+            HistogramSnapshot histogram = entry.getValue();
+            log.info("Scenario {}: stage {}(us) count={}, p50={}, p99={}, mean={}", context.scenario, entry.getKey(), histogram.getTotalCount(), TimeUnit.NANOSECONDS.toMicros(
+                    histogram.getValueAtPercentile(50)), TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(99)), String.format("%.1f", histogram.getMean() / 1000));
+        }
+        Map<MetricsCounter, Long> counters = metrics.getCounters();
+        long routedStatements = counters.get(MetricsCounter.ROUTED_STATEMENTS);
+        log.info("Scenario {}: counters {}, fan-out={}", context.scenario, counters,
+                String.format("%.2f", 0 == routedStatements ? 0D : (double) counters.get(MetricsCounter.ROUTE_UNITS) / routedStatements));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ScenarioContext {
+        
+        private final LoadTestScenario scenario;
+        
+        private final Recorder latencyRecorder = new Recorder(SIGNIFICANT_DIGITS);
+        
+        private final AtomicLong operations = new AtomicLong();
+        
+        private final AtomicLong errors = new AtomicLong();
+        
+        private volatile boolean running = true;
+        
+        private volatile boolean measuring;
+    }
+    
+    @RequiredArgsConstructor
+    private final class Worker implements Runnable {
+        
+        private final ScenarioContext context;
+        
+        @Override
+        public void run() {
+            try (MySQLLoadTestClient client = new MySQLLoadTestClient(HOST, config.getPort(), EmbeddedShardingProxy.USERNAME, EmbeddedShardingProxy.SCHEMA_NAME)) {
+                while (context.running) {
+                    execute(client);
+                }
+            } catch (final IOException | SQLException ex) {
+                log.error("Load test client of scenario {} failed.", context.scenario, ex);
+            }
+        }
+        
+        private void execute(final MySQLLoadTestClient client) throws IOException {
+            String sql = context.scenario.createSQL(config, orderIdGenerator);
+            long startNanos = System.nanoTime();
+            boolean succeed = true;
+            try {
+                client.execute(sql);
+            } catch (final SQLException ex) {
+                succeed = false;
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (!context.measuring) {
+                return;
+            }
+            if (succeed) {
+                context.latencyRecorder.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+                context.operations.incrementAndGet();
+            } else {
+                context.errors.incrementAndGet();
+            }
+        }
+    }
+}
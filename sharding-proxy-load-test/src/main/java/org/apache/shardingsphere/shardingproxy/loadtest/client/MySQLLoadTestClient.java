@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.loadtest.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLCapabilityFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLServerInfo;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.MySQLComQueryPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakePacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.MySQLHandshakeResponse41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.sql.SQLException;
+
+/**
+ * Blocking MySQL protocol client for load test.
+ *
+ * <p>
+ * Packets are written and read by transport module of Sharding-Proxy, so that client side costs are as small as possible
+ * and no initialization queries of JDBC drivers are sent to proxy. Packets sent by client are never split, so they are framed directly.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class MySQLLoadTestClient implements AutoCloseable {
+    
+    private static final int MAX_PACKET_SIZE = 1 << 24;
+    
+    private static final int OK_HEADER = 0x00;
+    
+    private static final int ERR_HEADER = 0xff;
+    
+    private static final int EOF_HEADER = 0xfe;
+    
+    private static final int EOF_MAX_PAYLOAD_LENGTH = 9;
+    
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private final Socket socket;
+    
+    private final DataInputStream input;
+    
+    private final OutputStream output;
+    
+    private final ByteBuf readBuffer = Unpooled.buffer();
+    
+    private final ByteBuf writeBuffer = Unpooled.buffer();
+    
+    public MySQLLoadTestClient(final String host, final int port, final String username, final String database) throws IOException, SQLException {
+        socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(new InetSocketAddress(host, port));
+        input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        output = new BufferedOutputStream(socket.getOutputStream());
+        handshake(username, database);
+    }
+    
+    private void handshake(final String username, final String database) throws IOException, SQLException {
+        new MySQLHandshakePacket(readPacket());
+        writePacket(new MySQLHandshakeResponse41Packet(1, MySQLCapabilityFlag.calculateHandshakeCapabilityFlagsLower(), MAX_PACKET_SIZE, MySQLServerInfo.CHARSET, username, new byte[0], database));
+        readResult();
+    }
+    
+    /**
+     * Execute SQL by COM_QUERY.
+     *
+     * @param sql SQL to be executed
+     * @return affected rows for update, or rows count for query
+     * @throws IOException IO exception
+     * @throws SQLException SQL exception returned by ERR packet
+     */
+    public long execute(final String sql) throws IOException, SQLException {
+        writePacket(new MySQLComQueryPacket(sql));
+        return readResult();
+    }
+    
+    private long readResult() throws IOException, SQLException {
+        MySQLPacketPayload payload = readPacket();
+        payload.readInt1();
+        int header = payload.readInt1();
+        if (OK_HEADER == header) {
+            return payload.readIntLenenc();
+        }
+        if (ERR_HEADER == header) {
+            throw createSQLException(payload);
+        }
+        skipUntilEOF();
+        return countUntilEOF();
+    }
+    
+    private SQLException createSQLException(final MySQLPacketPayload payload) {
+        int errorCode = payload.readInt2();
+        payload.readStringFix(1);
+        String sqlState = payload.readStringFix(5);
+        return new SQLException(payload.readStringEOF(), sqlState, errorCode);
+    }
+    
+    private void skipUntilEOF() throws IOException, SQLException {
+        while (!isEOF(readPacket())) {
+            continue;
+        }
+    }
+    
+    private long countUntilEOF() throws IOException, SQLException {
+        long result = 0;
+        while (!isEOF(readPacket())) {
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean isEOF(final MySQLPacketPayload payload) throws SQLException {
+        int payloadLength = payload.getByteBuf().readableBytes() - MySQLPacket.SEQUENCE_LENGTH;
+        int header = payload.getByteBuf().getUnsignedByte(payload.getByteBuf().readerIndex() + MySQLPacket.SEQUENCE_LENGTH);
+        if (ERR_HEADER == header) {
+            payload.getByteBuf().skipBytes(MySQLPacket.SEQUENCE_LENGTH + 1);
+            throw createSQLException(payload);
+        }
+        return EOF_HEADER == header && payloadLength < EOF_MAX_PAYLOAD_LENGTH;
+    }
+    
+    private MySQLPacketPayload readPacket() throws IOException {
+        int payloadLength = input.readUnsignedByte() | input.readUnsignedByte() << 8 | input.readUnsignedByte() << 16;
+        readBuffer.clear().ensureWritable(payloadLength + MySQLPacket.SEQUENCE_LENGTH);
+        readBuffer.writeBytes(input, payloadLength + MySQLPacket.SEQUENCE_LENGTH);
+        return new MySQLPacketPayload(readBuffer);
+    }
+    
+    private void writePacket(final MySQLPacket packet) throws IOException {
+        writeBuffer.clear().writeZero(HEADER_LENGTH);
+        packet.write(new MySQLPacketPayload(writeBuffer));
+        writeBuffer.setMediumLE(0, writeBuffer.readableBytes() - HEADER_LENGTH);
+        writeBuffer.setByte(MySQLPacket.PAYLOAD_LENGTH, packet.getSequenceId());
+        writeBuffer.readBytes(output, writeBuffer.readableBytes());
+        output.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.loadtest.config;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.shardingproxy.loadtest.scenario.LoadTestScenario;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Properties;
+
+/**
+ * Configuration of proxy load test.
+ *
+ * <p>
+ * Arguments are in format of {@code --key=value}, e.g. {@code --shards=8 --concurrency=32 --scenarios=POINT_SELECT,BATCH_INSERT}.
+ * Arguments start with {@code --props.} are passed to Sharding-Proxy as properties, e.g. {@code --props.executor.size=16}.
+ * Property {@code metrics.enabled} is true by default to report latencies of SQL stages.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class ProxyLoadTestConfiguration {
+    
+    private static final String PROPS_PREFIX = "props.";
+    
+    private int port = 3307;
+    
+    private int shards = 4;
+    
+    private int rowsPerShard = 10000;
+    
+    private int concurrency = 16;
+    
+    private int warmUpSeconds = 10;
+    
+    private int durationSeconds = 30;
+    
+    private int batchSize = 100;
+    
+    private Collection<LoadTestScenario> scenarios = Arrays.asList(LoadTestScenario.values());
+    
+    private final Properties props = new Properties();
+    
+    /**
+     * Parse configuration from command line arguments.
+     *
+     * @param args command line arguments
+     * @return configuration of proxy load test
+     */
+    public static ProxyLoadTestConfiguration parse(final String[] args) {
+        ProxyLoadTestConfiguration result = new ProxyLoadTestConfiguration();
+        result.props.setProperty(ShardingPropertiesConstant.METRICS_ENABLED.getKey(), Boolean.TRUE.toString());
+        for (String each : args) {
+            Preconditions.checkArgument(each.startsWith("--") && each.contains("="), "Argument `%s` should be in format of `--key=value`.", each);
+            String key = each.substring(2, each.indexOf('='));
+            String value = each.substring(each.indexOf('=') + 1);
+            if (key.startsWith(PROPS_PREFIX)) {
+                result.props.setProperty(key.substring(PROPS_PREFIX.length()), value);
+            } else {
+                result.setValue(key, value);
+            }
+        }
+        return result;
+    }
+    
+    private void setValue(final String key, final String value) {
+        switch (key) {
+            case "port":
+                port = Integer.parseInt(value);
+                break;
+            case "shards":
+                shards = Integer.parseInt(value);
+                break;
+            case "rowsPerShard":
+                rowsPerShard = Integer.parseInt(value);
+                break;
+            case "concurrency":
+                concurrency = Integer.parseInt(value);
+                break;
+            case "warmUpSeconds":
+                warmUpSeconds = Integer.parseInt(value);
+                break;
+            case "durationSeconds":
+                durationSeconds = Integer.parseInt(value);
+                break;
+            case "batchSize":
+                batchSize = Integer.parseInt(value);
+                break;
+            case "scenarios":
+                scenarios = parseScenarios(value);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Unknown argument `%s`.", key));
+        }
+    }
+    
+    private Collection<LoadTestScenario> parseScenarios(final String value) {
+        Collection<LoadTestScenario> result = new LinkedList<>();
+        for (String each : value.split(",")) {
+            result.add(LoadTestScenario.valueOf(each.trim().toUpperCase()));
+        }
+        return result;
+    }
+}
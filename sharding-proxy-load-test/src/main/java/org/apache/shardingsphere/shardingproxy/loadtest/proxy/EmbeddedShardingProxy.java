@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.loadtest.proxy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.api.config.RuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.rule.Authentication;
+import org.apache.shardingsphere.core.rule.ProxyUser;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.frontend.bootstrap.ShardingProxy;
+import org.apache.shardingsphere.shardingproxy.loadtest.config.ProxyLoadTestConfiguration;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sharding-Proxy embedded in load test process.
+ *
+ * <p>
+ * Each shard is an H2 in-memory database which holds one {@code t_order} table, the proxy is started with the same
+ * context, logic schemas and netty server as bootstrap, and serves them through MySQL protocol.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class EmbeddedShardingProxy {
+    
+    public static final String SCHEMA_NAME = "sharding_db";
+    
+    public static final String USERNAME = "root";
+    
+    private static final String[] STATUSES = {"init", "paid", "shipped", "finished"};
+    
+    private static final long STARTUP_TIMEOUT_MILLISECONDS = TimeUnit.SECONDS.toMillis(60);
+    
+    private final ProxyLoadTestConfiguration config;
+    
+    /**
+     * Initialize shards and start Sharding-Proxy.
+     *
+     * @throws SQLException SQL exception
+     * @throws InterruptedException interrupted exception
+     */
+    public void start() throws SQLException, InterruptedException {
+        Map<String, YamlDataSourceParameter> dataSources = new LinkedHashMap<>(config.getShards(), 1);
+        for (int i = 0; i < config.getShards(); i++) {
+            YamlDataSourceParameter dataSourceParameter = createDataSourceParameter(i);
+            initShard(dataSourceParameter, i);
+            dataSources.put("ds_" + i, dataSourceParameter);
+        }
+        ShardingProxyContext.getInstance().init(createAuthentication(), config.getProps());
+        LogicSchemas.getInstance().init(Collections.singletonMap(SCHEMA_NAME, dataSources), Collections.<String, RuleConfiguration>singletonMap(SCHEMA_NAME, createShardingRuleConfiguration()));
+        Thread proxyThread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                ShardingProxy.getInstance().start(config.getPort());
+            }
+        }, "ShardingProxy");
+        proxyThread.setDaemon(true);
+        proxyThread.start();
+        waitForStartup();
+    }
+    
+    private YamlDataSourceParameter createDataSourceParameter(final int shardIndex) {
+        YamlDataSourceParameter result = new YamlDataSourceParameter();
+        result.setUrl(String.format("jdbc:h2:mem:load_test_ds_%d;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", shardIndex));
+        result.setUsername("sa");
+        result.setPassword("");
+        result.setMaxPoolSize(Math.max(result.getMaxPoolSize(), config.getConcurrency()));
+        return result;
+    }
+    
+    private void initShard(final YamlDataSourceParameter dataSourceParameter, final int shardIndex) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(dataSourceParameter.getUrl(), dataSourceParameter.getUsername(), dataSourceParameter.getPassword())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS t_order (order_id BIGINT PRIMARY KEY, user_id BIGINT NOT NULL, status VARCHAR(50))");
+            }
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)")) {
+                for (int i = 0; i < config.getRowsPerShard(); i++) {
+                    long orderId = (long) i * config.getShards() + shardIndex;
+                    preparedStatement.setLong(1, orderId);
+                    preparedStatement.setLong(2, orderId);
+                    preparedStatement.setString(3, STATUSES[i % STATUSES.length]);
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+    
+    private Authentication createAuthentication() {
+        Authentication result = new Authentication();
+        result.getUsers().put(USERNAME, new ProxyUser("", Collections.singletonList(SCHEMA_NAME)));
+        return result;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order", String.format("ds_${0..%d}.t_order", config.getShards() - 1));
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", String.format("ds_${user_id %% %d}", config.getShards())));
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(tableRuleConfig);
+        return result;
+    }
+    
+    private void waitForStartup() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLISECONDS;
+        while (System.currentTimeMillis() < deadline) {
+            try (Socket ignored = new Socket("127.0.0.1", config.getPort())) {
+                log.info("Sharding-Proxy started on port {} with {} H2 shards.", config.getPort(), config.getShards());
+                return;
+            } catch (final IOException ignored) {
+                Thread.sleep(100L);
+            }
+        }
+        throw new IllegalStateException(String.format("Sharding-Proxy can not start on port %d in %d milliseconds.", config.getPort(), STARTUP_TIMEOUT_MILLISECONDS));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.loadtest.scenario;
+
+import org.apache.shardingsphere.shardingproxy.loadtest.config.ProxyLoadTestConfiguration;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scenario of proxy load test.
+ *
+ * <p>Table {@code t_order} is sharded by {@code user_id}, and {@code user_id} of initialized rows equals to {@code order_id}.</p>
+ *
+ * @author zhangliang
+ */
+public enum LoadTestScenario {
+    
+    POINT_SELECT {
+        
+        @Override
+        public String createSQL(final ProxyLoadTestConfiguration config, final AtomicLong orderIdGenerator) {
+            long orderId = nextExistedOrderId(config);
+            return String.format("SELECT order_id, user_id, status FROM t_order WHERE user_id = %d AND order_id = %d", orderId, orderId);
+        }
+    },
+    
+    RANGE_SCAN {
+        
+        @Override
+        public String createSQL(final ProxyLoadTestConfiguration config, final AtomicLong orderIdGenerator) {
+            return String.format("SELECT order_id, user_id, status FROM t_order WHERE order_id > %d ORDER BY order_id LIMIT 10", nextExistedOrderId(config));
+        }
+    },
+    
+    GROUP_BY {
+        
+        @Override
+        public String createSQL(final ProxyLoadTestConfiguration config, final AtomicLong orderIdGenerator) {
+            return String.format("SELECT status, COUNT(order_id) AS order_count FROM t_order WHERE order_id > %d GROUP BY status ORDER BY status", nextExistedOrderId(config));
+        }
+    },
+    
+    BATCH_INSERT {
+        
+        @Override
+        public String createSQL(final ProxyLoadTestConfiguration config, final AtomicLong orderIdGenerator) {
+            StringBuilder result = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) VALUES ");
+            long firstOrderId = orderIdGenerator.getAndAdd(config.getBatchSize());
+            for (int i = 0; i < config.getBatchSize(); i++) {
+                if (0 != i) {
+                    result.append(", ");
+                }
+                long orderId = firstOrderId + i;
+                result.append('(').append(orderId).append(", ").append(orderId).append(", 'init')");
+            }
+            return result.toString();
+        }
+    };
+    
+    /**
+     * Create SQL of one operation.
+     *
+     * @param config configuration of proxy load test
+     * @param orderIdGenerator generator of new order ID
+     * @return SQL
+     */
+    public abstract String createSQL(ProxyLoadTestConfiguration config, AtomicLong orderIdGenerator);
+    
+    private static long nextExistedOrderId(final ProxyLoadTestConfiguration config) {
+        return ThreadLocalRandom.current().nextLong((long) config.getShards() * config.getRowsPerShard());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.analyzer;
+
+import com.google.common.base.Optional;
+
+/**
+ * Order of SQL templates.
+ *
+ * @author zhangliang
+ */
+public enum SQLTemplateOrder {
+    
+    TIME {
+        
+        @Override
+        double getValue(final SQLTemplateStatistics statistics) {
+            return statistics.getTotalNanos();
+        }
+    },
+    
+    ROUTE_UNITS {
+        
+        @Override
+        double getValue(final SQLTemplateStatistics statistics) {
+            return statistics.getTotalRouteUnits();
+        }
+    },
+    
+    ROWS {
+        
+        @Override
+        double getValue(final SQLTemplateStatistics statistics) {
+            return statistics.getTotalRows();
+        }
+    },
+    
+    SHARD_SKEW {
+        
+        @Override
+        double getValue(final SQLTemplateStatistics statistics) {
+            return statistics.getMaxShardSkew();
+        }
+    };
+    
+    abstract double getValue(SQLTemplateStatistics statistics);
+    
+    /**
+     * Find order of SQL templates.
+     *
+     * @param name name of order, case insensitive
+     * @return order of SQL templates
+     */
+    public static Optional<SQLTemplateOrder> find(final String name) {
+        for (SQLTemplateOrder each : values()) {
+            if (each.name().equalsIgnoreCase(name)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.absent();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.analyzer;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Recorder of SQL template.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class SQLTemplateRecorder {
+    
+    private final String sqlTemplate;
+    
+    private long executions;
+    
+    private long totalNanos;
+    
+    private long maxNanos;
+    
+    private long totalRouteUnits;
+    
+    private int maxRouteUnits;
+    
+    private long totalRows;
+    
+    private double maxShardSkew;
+    
+    private String skewedDataSourceName;
+    
+    /**
+     * Record finished statement.
+     *
+     * @param statementTrace trace of finished statement
+     * @param nanos nanoseconds from routing to the last returned row
+     * @param rows returned or affected rows
+     */
+    synchronized void record(final StatementTrace statementTrace, final long nanos, final long rows) {
+        executions++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        int routeUnits = statementTrace.getRouteUnits();
+        totalRouteUnits += routeUnits;
+        maxRouteUnits = Math.max(maxRouteUnits, routeUnits);
+        totalRows += rows;
+        double shardSkew = statementTrace.getShardSkew();
+        if (shardSkew > maxShardSkew) {
+            maxShardSkew = shardSkew;
+            skewedDataSourceName = statementTrace.getSlowestDataSourceName();
+        }
+    }
+    
+    /**
+     * Get statistics of SQL template.
+     *
+     * @return statistics of SQL template, absent if no statement recorded
+     */
+    synchronized Optional<SQLTemplateStatistics> getStatistics() {
+        if (0 == executions) {
+            return Optional.absent();
+        }
+        return Optional.of(new SQLTemplateStatistics(sqlTemplate, executions, totalNanos, maxNanos, totalRouteUnits, maxRouteUnits, totalRows, maxShardSkew, skewedDataSourceName));
+    }
+}
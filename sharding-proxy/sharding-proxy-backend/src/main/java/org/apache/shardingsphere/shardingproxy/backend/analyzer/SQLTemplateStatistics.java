@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.analyzer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Statistics of SQL template.
+ *
+ * <p>Statistics is an immutable snapshot of recorded statements, and contains one execution at least.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLTemplateStatistics {
+    
+    private final String sqlTemplate;
+    
+    private final long executions;
+    
+    private final long totalNanos;
+    
+    private final long maxNanos;
+    
+    private final long totalRouteUnits;
+    
+    private final int maxRouteUnits;
+    
+    private final long totalRows;
+    
+    private final double maxShardSkew;
+    
+    private final String skewedDataSourceName;
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.analyzer;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.shardingsphere.core.execute.ShardingExecuteDataMap;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Slow query analyzer.
+ *
+ * <p>
+ * Statements are traced by routing and execution hooks when metrics are enabled, and aggregated by SQL template after the last row returned.
+ * SQL template is SQL with literals replaced by {@code ?}, only the most recently used templates are kept to bound memory.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class SlowQueryAnalyzer {
+    
+    private static final SlowQueryAnalyzer INSTANCE = new SlowQueryAnalyzer();
+    
+    private static final String STATEMENT_TRACE_KEY = SlowQueryAnalyzer.class.getName() + ".statementTrace";
+    
+    private static final int MAX_SQL_TEMPLATE_COUNT = 1024;
+    
+    private static final int MAX_SQL_TEMPLATE_LENGTH = 1024;
+    
+    private final Cache<String, SQLTemplateRecorder> sqlTemplates = CacheBuilder.newBuilder().maximumSize(MAX_SQL_TEMPLATE_COUNT).build();
+    
+    private SlowQueryAnalyzer() {
+    }
+    
+    /**
+     * Get instance of slow query analyzer.
+     *
+     * @return instance of slow query analyzer
+     */
+    public static SlowQueryAnalyzer getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Start trace of statement in current thread.
+     *
+     * @param sql SQL to be routed
+     */
+    public void startStatementTrace(final String sql) {
+        if (ShardingMetrics.getInstance().isEnabled()) {
+            ShardingExecuteDataMap.getDataMap().put(STATEMENT_TRACE_KEY, new StatementTrace(sql, System.nanoTime()));
+        } else {
+            ShardingExecuteDataMap.getDataMap().remove(STATEMENT_TRACE_KEY);
+        }
+    }
+    
+    /**
+     * Get trace of statement.
+     *
+     * @param shardingExecuteDataMap sharding execute data map of trunk thread
+     * @return trace of statement
+     */
+    public Optional<StatementTrace> getStatementTrace(final Map<String, Object> shardingExecuteDataMap) {
+        return Optional.fromNullable((StatementTrace) shardingExecuteDataMap.get(STATEMENT_TRACE_KEY));
+    }
+    
+    /**
+     * Remove trace of statement from current thread.
+     *
+     * <p>Trace is removed after execution, then it can be finished by any thread after rows returned.</p>
+     *
+     * @return removed trace of statement
+     */
+    public Optional<StatementTrace> removeStatementTrace() {
+        return Optional.fromNullable((StatementTrace) ShardingExecuteDataMap.getDataMap().remove(STATEMENT_TRACE_KEY));
+    }
+    
+    /**
+     * Finish trace of statement.
+     *
+     * @param statementTrace trace of statement
+     * @param rows returned or affected rows
+     */
+    public void finishStatementTrace(final StatementTrace statementTrace, final long rows) {
+        long nanos = System.nanoTime() - statementTrace.getStartNanos();
+        String sqlTemplate = getSQLTemplate(statementTrace.getSql());
+        SQLTemplateRecorder recorder = sqlTemplates.getIfPresent(sqlTemplate);
+        if (null == recorder) {
+            recorder = new SQLTemplateRecorder(sqlTemplate);
+            SQLTemplateRecorder existed = sqlTemplates.asMap().putIfAbsent(sqlTemplate, recorder);
+            if (null != existed) {
+                recorder = existed;
+            }
+        }
+        recorder.record(statementTrace, nanos, rows);
+    }
+    
+    /**
+     * Get top SQL templates.
+     *
+     * <p>Statistics are snapshots taken before sorting, so statements recorded concurrently do not change the order during sorting.</p>
+     *
+     * @param order order of SQL templates
+     * @param size max size of SQL templates
+     * @return top SQL templates in descending order
+     */
+    public List<SQLTemplateStatistics> getTopSQLTemplates(final SQLTemplateOrder order, final int size) {
+        List<SQLTemplateStatistics> result = new ArrayList<>(sqlTemplates.asMap().size());
+        for (SQLTemplateRecorder each : sqlTemplates.asMap().values()) {
+            Optional<SQLTemplateStatistics> statistics = each.getStatistics();
+            if (statistics.isPresent()) {
+                result.add(statistics.get());
+            }
+        }
+        Collections.sort(result, new Comparator<SQLTemplateStatistics>() {
+            
+            @Override
+            public int compare(final SQLTemplateStatistics o1, final SQLTemplateStatistics o2) {
+                return Double.compare(order.getValue(o2), order.getValue(o1));
+            }
+        });
+        return result.size() > size ? new ArrayList<>(result.subList(0, size)) : result;
+    }
+    
+    /**
+     * Clear statistics of SQL templates.
+     */
+    public void clear() {
+        sqlTemplates.invalidateAll();
+    }
+    
+    static String getSQLTemplate(final String sql) {
+        StringBuilder result = new StringBuilder(Math.min(sql.length(), MAX_SQL_TEMPLATE_LENGTH));
+        int length = sql.length();
+        int i = 0;
+        while (i < length && result.length() < MAX_SQL_TEMPLATE_LENGTH) {
+            char each = sql.charAt(i);
+            if ('\'' == each) {
+                i = skipQuotedLiteral(sql, i);
+                result.append('?');
+            } else if (Character.isDigit(each) && !isIdentifierPart(result)) {
+                i = skipNumericLiteral(sql, i);
+                result.append('?');
+            } else if (Character.isWhitespace(each)) {
+                if (0 != result.length() && ' ' != result.charAt(result.length() - 1)) {
+                    result.append(' ');
+                }
+                i++;
+            } else {
+                result.append(each);
+                i++;
+            }
+        }
+        return result.toString().trim();
+    }
+    
+    private static int skipQuotedLiteral(final String sql, final int start) {
+        int result = start + 1;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if ('\\' == each) {
+                result += 2;
+            } else if ('\'' == each && result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                result += 2;
+            } else if ('\'' == each) {
+                return result + 1;
+            } else {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private static int skipNumericLiteral(final String sql, final int start) {
+        int result = start;
+        while (result < sql.length() && (Character.isLetterOrDigit(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final StringBuilder sqlTemplate) {
+        if (0 == sqlTemplate.length()) {
+            return false;
+        }
+        char previous = sqlTemplate.charAt(sqlTemplate.length() - 1);
+        return Character.isLetterOrDigit(previous) || '_' == previous || '$' == previous || '`' == previous;
+    }
+}
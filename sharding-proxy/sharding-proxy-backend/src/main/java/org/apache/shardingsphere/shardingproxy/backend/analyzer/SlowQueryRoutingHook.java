@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.analyzer;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.execute.ShardingExecuteDataMap;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.hook.RoutingHook;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+
+/**
+ * Routing hook for slow query analyzer.
+ *
+ * @author zhangliang
+ */
+public final class SlowQueryRoutingHook implements RoutingHook {
+    
+    @Override
+    public void start(final String sql) {
+        SlowQueryAnalyzer.getInstance().startStatementTrace(sql);
+    }
+    
+    @Override
+    public void finishSuccess(final SQLRouteResult sqlRouteResult, final TableMetas tableMetas) {
+        Optional<StatementTrace> statementTrace = SlowQueryAnalyzer.getInstance().getStatementTrace(ShardingExecuteDataMap.getDataMap());
+        if (statementTrace.isPresent()) {
+            statementTrace.get().setRouteUnits(getRouteUnits(sqlRouteResult));
+        }
+    }
+    
+    private int getRouteUnits(final SQLRouteResult sqlRouteResult) {
+        if (null == sqlRouteResult.getRoutingResult()) {
+            return sqlRouteResult.getRouteUnits().size();
+        }
+        int result = 0;
+        for (RoutingUnit each : sqlRouteResult.getRoutingResult().getRoutingUnits()) {
+            result += Math.max(1, each.getTableUnits().size());
+        }
+        return result;
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        SlowQueryAnalyzer.getInstance().removeStatementTrace();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.analyzer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * Trace of statement from routing to the last returned row.
+ *
+ * <p>Execution nanoseconds of route units are added by execution threads, so shard data is guarded by this trace.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class StatementTrace {
+    
+    @Getter
+    private final String sql;
+    
+    @Getter
+    private final long startNanos;
+    
+    @Getter
+    @Setter
+    private volatile int routeUnits;
+    
+    private long[] shardNanos = new long[4];
+    
+    private int shardCount;
+    
+    private long slowestShardNanos;
+    
+    private String slowestDataSourceName;
+    
+    /**
+     * Add execution nanoseconds of route unit.
+     *
+     * @param dataSourceName data source name of route unit
+     * @param nanos execution nanoseconds of route unit
+     */
+    public synchronized void addShardNanos(final String dataSourceName, final long nanos) {
+        if (shardCount == shardNanos.length) {
+            shardNanos = Arrays.copyOf(shardNanos, shardCount * 2);
+        }
+        if (0 == shardCount || nanos > slowestShardNanos) {
+            slowestShardNanos = nanos;
+            slowestDataSourceName = dataSourceName;
+        }
+        shardNanos[shardCount++] = nanos;
+    }
+    
+    /**
+     * Get skew of shards.
+     *
+     * @return execution nanoseconds of slowest shard divided by median shard, 0 if no shard executed
+     */
+    public synchronized double getShardSkew() {
+        if (0 == shardCount) {
+            return 0D;
+        }
+        long[] sortedNanos = Arrays.copyOf(shardNanos, shardCount);
+        Arrays.sort(sortedNanos);
+        int middle = shardCount / 2;
+        long medianNanos = 0 == shardCount % 2 ? (sortedNanos[middle - 1] + sortedNanos[middle]) / 2 : sortedNanos[middle];
+        return (double) slowestShardNanos / Math.max(1L, medianNanos);
+    }
+    
+    /**
+     * Get data source name of slowest shard.
+     *
+     * @return data source name of slowest shard, null if no shard executed
+     */
+    public synchronized String getSlowestDataSourceName() {
+        return slowestDataSourceName;
+    }
+}
@@ -51,4 +51,11 @@ public interface DatabaseCommunicationEngine {
      * @throws SQLException SQL exception
      */
     QueryData getQueryData() throws SQLException;
+    
+    /**
+     * Close statements and result sets of command.
+     *
+     * @throws SQLException SQL exception
+     */
+    void close() throws SQLException;
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.merge.CloseableMergedResult;
 import org.apache.shardingsphere.core.merge.MergeEngineFactory;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dal.show.ShowTablesMergedResult;
@@ -27,6 +28,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DDLStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.EncryptRule;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.SlowQueryAnalyzer;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.StatementTrace;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
@@ -42,10 +45,12 @@ import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -71,14 +76,27 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private MergedResult mergedResult;
     
+    private List<Integer> columnTypes;
+    
+    private StatementTrace statementTrace;
+    
+    private long returnedRows;
+    
     @Override
     public BackendResponse execute() {
+        BackendResponse result;
         try {
             SQLRouteResult routeResult = executeEngine.getJdbcExecutorWrapper().route(sql);
-            return execute(routeResult);
+            result = execute(routeResult);
         } catch (final SQLException ex) {
-            return new ErrorResponse(ex);
+            result = new ErrorResponse(ex);
+        } finally {
+            statementTrace = SlowQueryAnalyzer.getInstance().removeStatementTrace().orNull();
         }
+        if (result instanceof UpdateResponse) {
+            finishStatementTrace(((UpdateResponse) result).getUpdateCount());
+        }
+        return result;
     }
     
     private BackendResponse execute(final SQLRouteResult routeResult) throws SQLException {
@@ -91,6 +109,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
                     sqlStatementContext.getTablesContext().isSingleTable() ? sqlStatementContext.getTablesContext().getSingleTableName() : "unknown_table"));
         }
         response = executeEngine.execute(routeResult);
+        columnTypes = null;
         if (logicSchema instanceof ShardingSchema) {
             logicSchema.refreshTableMetaData(routeResult.getSqlStatementContext());
         }
@@ -125,7 +144,7 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private void setMergedResult(final SQLRouteResult routeResult) throws SQLException {
         mergedResult = MergeEngineFactory.newInstance(LogicSchemas.getInstance().getDatabaseType(),
-                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTables(), ((QueryResponse) response).getQueryResults()).merge();
+                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTables(), ((QueryResponse) response).getQueryResults(), ShardingProxyContext.getInstance().getShardingProperties()).merge();
     }
     
     private void resetColumnLabelForShowTablesMergedResult() {
@@ -186,19 +205,52 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         }
     }
     
+    private void finishStatementTrace(final long rows) {
+        if (null != statementTrace) {
+            SlowQueryAnalyzer.getInstance().finishStatementTrace(statementTrace, rows);
+            statementTrace = null;
+        }
+    }
+    
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        if (null != mergedResult && mergedResult.next()) {
+            returnedRows++;
+            return true;
+        }
+        closeMergedResult();
+        finishStatementTrace(returnedRows);
+        return false;
     }
     
     @Override
     public QueryData getQueryData() throws SQLException {
         List<QueryHeader> queryHeaders = ((QueryResponse) response).getQueryHeaders();
-        List<Object> row = new ArrayList<>(queryHeaders.size());
-        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            row.add(mergedResult.getValue(columnIndex, Object.class));
+        if (null == columnTypes) {
+            columnTypes = getColumnTypes(queryHeaders);
+        }
+        Object[] row = new Object[queryHeaders.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return new QueryData(columnTypes, Arrays.asList(row));
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        finishStatementTrace(returnedRows);
+        try {
+            closeMergedResult();
+        } finally {
+            executeEngine.close();
+        }
+    }
+    
+    private void closeMergedResult() throws SQLException {
+        if (mergedResult instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergedResult).close();
         }
-        return new QueryData(getColumnTypes(queryHeaders), row);
+        mergedResult = null;
     }
     
     private List<Integer> getColumnTypes(final List<QueryHeader> queryHeaders) {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.conne
 import com.google.common.base.Preconditions;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
@@ -40,10 +41,14 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Backend connection.
  *
+ * <p>Locks are used instead of monitors, so that virtual thread is not pinned to its carrier thread while closing backend connections.</p>
+ *
  * @author zhaojun
  * @author zhangliang
  * @author liya
@@ -70,6 +75,12 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
+    @Getter(AccessLevel.NONE)
+    private final Lock cachedConnectionsLock = new ReentrantLock();
+    
+    @Getter(AccessLevel.NONE)
+    private final Lock closeLock = new ReentrantLock();
+    
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
@@ -153,8 +164,11 @@ public final class BackendConnection implements AutoCloseable {
     
     private List<Connection> getConnectionsWithTransaction(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
         Collection<Connection> connections;
-        synchronized (cachedConnections) {
+        cachedConnectionsLock.lock();
+        try {
             connections = cachedConnections.get(dataSourceName);
+        } finally {
+            cachedConnectionsLock.unlock();
         }
         List<Connection> result;
         if (connections.size() >= connectionSize) {
@@ -164,14 +178,10 @@ public final class BackendConnection implements AutoCloseable {
             result.addAll(connections);
             List<Connection> newConnections = createNewConnections(connectionMode, dataSourceName, connectionSize - connections.size());
             result.addAll(newConnections);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, newConnections);
-            }
+            cacheConnections(dataSourceName, newConnections);
         } else {
             result = createNewConnections(connectionMode, dataSourceName, connectionSize);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, result);
-            }
+            cacheConnections(dataSourceName, result);
         }
         return result;
     }
@@ -179,12 +189,19 @@ public final class BackendConnection implements AutoCloseable {
     private List<Connection> getConnectionsWithoutTransaction(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
         Preconditions.checkNotNull(logicSchema, "current logic schema is null");
         List<Connection> result = getConnectionFromUnderlying(connectionMode, dataSourceName, connectionSize);
-        synchronized (cachedConnections) {
-            cachedConnections.putAll(dataSourceName, result);
-        }
+        cacheConnections(dataSourceName, result);
         return result;
     }
     
+    private void cacheConnections(final String dataSourceName, final List<Connection> connections) {
+        cachedConnectionsLock.lock();
+        try {
+            cachedConnections.putAll(dataSourceName, connections);
+        } finally {
+            cachedConnectionsLock.unlock();
+        }
+    }
+    
     private List<Connection> createNewConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
         Preconditions.checkNotNull(logicSchema, "current logic schema is null");
         List<Connection> result = getConnectionFromUnderlying(connectionMode, dataSourceName, connectionSize);
@@ -234,6 +251,16 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Hold cached connections, statements and result sets for subsequent commands.
+     *
+     * <p>Subsequent commands are not blocked by held resources, which are closed by next closing.</p>
+     */
+    public void hold() {
+        MasterVisitedManager.clear();
+        stateHandler.doNotifyIfNecessary();
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -245,15 +272,53 @@ public final class BackendConnection implements AutoCloseable {
      * @param forceClose force close flag
      * @throws SQLException SQL exception
      */
-    public synchronized void close(final boolean forceClose) throws SQLException {
+    public void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
-        MasterVisitedManager.clear();
-        exceptions.addAll(closeResultSets());
-        exceptions.addAll(closeStatements());
-        if (!stateHandler.isInTransaction() || forceClose) {
-            exceptions.addAll(releaseConnections(forceClose));
+        closeLock.lock();
+        try {
+            MasterVisitedManager.clear();
+            exceptions.addAll(closeResultSets());
+            exceptions.addAll(closeStatements());
+            if (!stateHandler.isInTransaction() || forceClose) {
+                exceptions.addAll(releaseConnections(forceClose));
+            }
+            stateHandler.doNotifyIfNecessary();
+        } finally {
+            closeLock.unlock();
+        }
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
+    /**
+     * Close statements and their result sets before next closing.
+     *
+     * @param statements statements to be closed
+     * @throws SQLException SQL exception
+     */
+    public void close(final Collection<Statement> statements) throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        closeLock.lock();
+        try {
+            for (Statement each : statements) {
+                try {
+                    each.close();
+                } catch (final SQLException ex) {
+                    exceptions.add(ex);
+                }
+                cachedStatements.remove(each);
+            }
+            for (ResultSet each : cachedResultSets) {
+                try {
+                    if (each.isClosed()) {
+                        cachedResultSets.remove(each);
+                    }
+                } catch (final SQLException ex) {
+                    exceptions.add(ex);
+                }
+            }
+        } finally {
+            closeLock.unlock();
         }
-        stateHandler.doNotifyIfNecessary();
         throwSQLExceptionIfNecessary(exceptions);
     }
     
@@ -41,6 +41,10 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Backend data source for JDBC.
@@ -59,6 +63,8 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     
     private final JDBCBackendDataSourceFactory dataSourceFactory = JDBCRawBackendDataSourceFactory.getInstance();
     
+    private final ConcurrentMap<String, Lock> dataSourceLocks = new ConcurrentHashMap<>();
+    
     @Getter
     private ShardingTransactionManagerEngine shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
     
@@ -109,6 +115,8 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
     /**
      * Get connections.
      *
+     * <p>Connections of memory strictly mode are got under lock of data source, lock is used instead of monitor to avoid pinning virtual thread while waiting for connection pool.</p>
+     *
      * @param connectionMode  connection mode
      * @param dataSourceName  data source name
      * @param connectionSize  size of connections to be get
@@ -116,7 +124,6 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize, final TransactionType transactionType) throws SQLException {
         DataSource dataSource = dataSources.get(dataSourceName);
         if (1 == connectionSize) {
@@ -125,11 +132,27 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(transactionType, dataSourceName, dataSource, connectionSize);
         }
-        synchronized (dataSource) {
+        Lock lock = getDataSourceLock(dataSourceName);
+        lock.lock();
+        try {
             return createConnections(transactionType, dataSourceName, dataSource, connectionSize);
+        } finally {
+            lock.unlock();
         }
     }
     
+    private Lock getDataSourceLock(final String dataSourceName) {
+        Lock result = dataSourceLocks.get(dataSourceName);
+        if (null == result) {
+            result = new ReentrantLock();
+            Lock existed = dataSourceLocks.putIfAbsent(dataSourceName, result);
+            if (null != existed) {
+                result = existed;
+            }
+        }
+        return result;
+    }
+    
     private List<Connection> createConnections(final TransactionType transactionType, final String dataSourceName, final DataSource dataSource, final int connectionSize) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
         for (int i = 0; i < connectionSize; i++) {
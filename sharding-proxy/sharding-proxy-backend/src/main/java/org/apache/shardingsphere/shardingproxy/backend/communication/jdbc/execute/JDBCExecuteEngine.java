@@ -40,7 +40,9 @@ import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateRes
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -62,6 +64,8 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final Collection<Statement> statements = new LinkedList<>();
+    
     public JDBCExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
@@ -77,6 +81,7 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(
                 routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(backendConnection, jdbcExecutorWrapper, isReturnGeneratedKeys));
+        addStatements(sqlExecuteGroups);
         Collection<ExecuteResponse> executeResponses = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, 
                 new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true), 
                 new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
@@ -85,6 +90,14 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
                 ? getExecuteQueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses) : new UpdateResponse(executeResponses);
     }
     
+    private void addStatements(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups) {
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : sqlExecuteGroups) {
+            for (StatementExecuteUnit executeUnit : each.getInputs()) {
+                statements.add(executeUnit.getStatement());
+            }
+        }
+    }
+    
     private BackendResponse getExecuteQueryResponse(final List<QueryHeader> queryHeaders, final Collection<ExecuteResponse> executeResponses) {
         QueryResponse result = new QueryResponse(queryHeaders);
         for (ExecuteResponse each : executeResponses) {
@@ -92,4 +105,17 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         }
         return result;
     }
+    
+    /**
+     * Close statements and result sets created by this engine.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        try {
+            backendConnection.close(statements);
+        } finally {
+            statements.clear();
+        }
+    }
 }
@@ -57,7 +57,12 @@ public abstract class LogicSchema {
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(LogicSchemas.getInstance().getDatabaseType());
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        parseEngine = SQLParseEngineFactory.getSQLParseEngine(
+                LogicSchemas.getInstance().getDatabaseType(), shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSER_SLL_PREDICTION_ENABLED));
+        if (shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.SQL_PARSER_WARM_UP_ENABLED)) {
+            parseEngine.warmUp();
+        }
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
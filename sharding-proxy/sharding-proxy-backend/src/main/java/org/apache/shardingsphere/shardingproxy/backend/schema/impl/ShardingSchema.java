@@ -18,9 +18,15 @@
 package org.apache.shardingsphere.shardingproxy.backend.schema.impl;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.eventbus.Subscribe;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
@@ -42,6 +48,7 @@ import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardi
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -61,10 +68,15 @@ import java.util.Map;
 @Getter
 public final class ShardingSchema extends LogicSchema {
     
+    private static final int MAX_PREPARED_QUERY_SHARDING_ENGINE_COUNT = 1024;
+    
     private ShardingRule shardingRule;
     
     private final ShardingSphereMetaData metaData;
     
+    @Getter(AccessLevel.NONE)
+    private volatile PreparedQueryShardingEngines preparedQueryShardingEngines;
+    
     public ShardingSchema(
             final String name, final Map<String, YamlDataSourceParameter> dataSources, final ShardingRuleConfiguration shardingRuleConfig, final boolean isUsingRegistry) throws SQLException {
         super(name, dataSources);
@@ -82,6 +94,30 @@ public final class ShardingSchema extends LogicSchema {
         return new ShardingSphereMetaData(dataSourceMetas, tableMetas);
     }
     
+    /**
+     * Get sharding engine for prepared query.
+     *
+     * <p>
+     * Engines are reused by executions of the same SQL when route result cache is enabled, so cached route results can be hit.
+     * Reused engines are discarded after sharding rule or sharding properties changed.
+     * </p>
+     *
+     * @param sql SQL of prepared query
+     * @return sharding engine for prepared query
+     */
+    public PreparedQueryShardingEngine getPreparedQueryShardingEngine(final String sql) {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        if (0 >= shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PREPARED_STATEMENT_ROUTE_CACHE_SIZE)) {
+            return new PreparedQueryShardingEngine(sql, shardingRule, shardingProperties, metaData, getParseEngine());
+        }
+        PreparedQueryShardingEngines engines = preparedQueryShardingEngines;
+        if (null == engines || engines.getShardingRule() != shardingRule || engines.getShardingProperties() != shardingProperties) {
+            engines = new PreparedQueryShardingEngines(shardingRule, shardingProperties);
+            preparedQueryShardingEngines = engines;
+        }
+        return engines.get(sql);
+    }
+    
     /**
      * Renew sharding rule.
      *
@@ -181,4 +217,32 @@ public final class ShardingSchema extends LogicSchema {
         }
         return Optional.absent();
     }
+    
+    private final class PreparedQueryShardingEngines {
+        
+        @Getter
+        private final ShardingRule shardingRule;
+        
+        @Getter
+        private final ShardingProperties shardingProperties;
+        
+        private final Cache<String, PreparedQueryShardingEngine> engines = CacheBuilder.newBuilder().maximumSize(MAX_PREPARED_QUERY_SHARDING_ENGINE_COUNT).build();
+        
+        private PreparedQueryShardingEngines(final ShardingRule shardingRule, final ShardingProperties shardingProperties) {
+            this.shardingRule = shardingRule;
+            this.shardingProperties = shardingProperties;
+        }
+        
+        private PreparedQueryShardingEngine get(final String sql) {
+            PreparedQueryShardingEngine result = engines.getIfPresent(sql);
+            if (null == result) {
+                result = new PreparedQueryShardingEngine(sql, shardingRule, shardingProperties, metaData, getParseEngine());
+                PreparedQueryShardingEngine existed = engines.asMap().putIfAbsent(sql, result);
+                if (null != existed) {
+                    result = existed;
+                }
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.text.query;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
+import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
+import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.route.router.sharding.keygen.GeneratedKey;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.SlowQueryAnalyzer;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.StatementTrace;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Backend handler with batch update.
+ *
+ * <p>
+ * All pipelined SQLs are routed up front, route units of the same data source are sent to backend within one JDBC batch.
+ * Batches are executed by SQL execute template, so SQL execution hooks and metrics see each batch as one execute unit.
+ * Responses are returned in the order of SQLs, last insert ID is only available for keys generated by Sharding-Proxy.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class BatchUpdateBackendHandler {
+    
+    private static final Pattern DML_PATTERN = Pattern.compile("^\\s*(/\\*.*?\\*/\\s*)*(INSERT|UPDATE|DELETE)\\s", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    
+    private final List<String> sqls;
+    
+    private final BackendConnection backendConnection;
+    
+    /**
+     * Judge is SQL batchable or not.
+     *
+     * @param sql SQL
+     * @param backendConnection backend connection
+     * @return is SQL batchable or not
+     */
+    public static boolean isBatchable(final String sql, final BackendConnection backendConnection) {
+        return null != backendConnection.getLogicSchema() && DML_PATTERN.matcher(sql).find();
+    }
+    
+    /**
+     * Execute batch update.
+     *
+     * @return backend responses in the order of SQLs
+     */
+    public List<BackendResponse> execute() {
+        LogicSchema logicSchema = backendConnection.getLogicSchema();
+        List<BatchedSQLResult> results = new ArrayList<>(sqls.size());
+        Map<String, BatchedStatement> batchedStatements = new LinkedHashMap<>();
+        for (int i = 0; i < sqls.size(); i++) {
+            BatchedSQLResult sqlResult = new BatchedSQLResult();
+            results.add(sqlResult);
+            route(logicSchema, sqls.get(i), sqlResult);
+            if (null != sqlResult.getRouteResult()) {
+                addRouteUnits(batchedStatements, sqlResult);
+            }
+        }
+        executeBatches(batchedStatements);
+        for (BatchedStatement each : batchedStatements.values()) {
+            each.fillSQLResults();
+        }
+        List<BackendResponse> result = new ArrayList<>(sqls.size());
+        for (BatchedSQLResult each : results) {
+            result.add(createBackendResponse(logicSchema, each));
+        }
+        return result;
+    }
+    
+    private void route(final LogicSchema logicSchema, final String sql, final BatchedSQLResult sqlResult) {
+        try {
+            sqlResult.setRouteResult(new StatementExecutorWrapper(logicSchema).route(sql));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            sqlResult.setCause(ex);
+        } finally {
+            sqlResult.setStatementTrace(SlowQueryAnalyzer.getInstance().removeStatementTrace().orNull());
+        }
+    }
+    
+    private void addRouteUnits(final Map<String, BatchedStatement> batchedStatements, final BatchedSQLResult sqlResult) {
+        for (RouteUnit each : sqlResult.getRouteResult().getRouteUnits()) {
+            if (!batchedStatements.containsKey(each.getDataSourceName())) {
+                batchedStatements.put(each.getDataSourceName(), new BatchedStatement(each.getDataSourceName()));
+            }
+            batchedStatements.get(each.getDataSourceName()).getRouteUnits().add(new BatchedRouteUnit(each.getSqlUnit().getSql(), sqlResult));
+        }
+    }
+    
+    private void executeBatches(final Map<String, BatchedStatement> batchedStatements) {
+        Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups = new LinkedList<>();
+        for (BatchedStatement each : batchedStatements.values()) {
+            try {
+                sqlExecuteGroups.add(new ShardingExecuteGroup<>(Collections.singletonList(createStatementExecuteUnit(each))));
+            } catch (final SQLException ex) {
+                each.setCause(ex);
+            }
+        }
+        if (sqlExecuteGroups.isEmpty()) {
+            return;
+        }
+        boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
+        try {
+            new SQLExecuteTemplate(BackendExecutorContext.getInstance().getExecuteEngine(), backendConnection.isSerialExecute())
+                    .executeGroup(sqlExecuteGroups, new BatchSQLExecuteCallback(batchedStatements));
+        } catch (final SQLException ex) {
+            for (BatchedStatement each : batchedStatements.values()) {
+                each.setCause(ex);
+            }
+        } finally {
+            ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
+        }
+    }
+    
+    private StatementExecuteUnit createStatementExecuteUnit(final BatchedStatement batchedStatement) throws SQLException {
+        Statement statement = backendConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, batchedStatement.getDataSourceName(), 1).get(0).createStatement();
+        backendConnection.add(statement);
+        List<String> sqls = new ArrayList<>(batchedStatement.getRouteUnits().size());
+        for (BatchedRouteUnit each : batchedStatement.getRouteUnits()) {
+            sqls.add(each.getSql());
+        }
+        return new StatementExecuteUnit(new RouteUnit(batchedStatement.getDataSourceName(), new SQLUnit(Joiner.on("; ").join(sqls), Collections.emptyList())), statement, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    private BackendResponse createBackendResponse(final LogicSchema logicSchema, final BatchedSQLResult sqlResult) {
+        if (null != sqlResult.getCause()) {
+            return new ErrorResponse(sqlResult.getCause());
+        }
+        UpdateResponse result = sqlResult.getExecuteResponses().isEmpty() ? new UpdateResponse() : new UpdateResponse(sqlResult.getExecuteResponses());
+        if (!sqlResult.getExecuteResponses().isEmpty() && !isAllBroadcastTables(logicSchema, sqlResult.getRouteResult())) {
+            result.mergeUpdateCount();
+        }
+        if (null != sqlResult.getStatementTrace()) {
+            SlowQueryAnalyzer.getInstance().finishStatementTrace(sqlResult.getStatementTrace(), result.getUpdateCount());
+        }
+        return result;
+    }
+    
+    private static long getGeneratedLastInsertId(final SQLRouteResult routeResult) {
+        Optional<GeneratedKey> generatedKey = routeResult.getGeneratedKey();
+        if (!generatedKey.isPresent() || !generatedKey.get().isGenerated() || generatedKey.get().getGeneratedValues().isEmpty()) {
+            return 0L;
+        }
+        Comparable<?> generatedValue = generatedKey.get().getGeneratedValues().getFirst();
+        return generatedValue instanceof Number ? ((Number) generatedValue).longValue() : 0L;
+    }
+    
+    private boolean isAllBroadcastTables(final LogicSchema logicSchema, final SQLRouteResult routeResult) {
+        return logicSchema instanceof ShardingSchema && logicSchema.getShardingRule().isAllBroadcastTables(routeResult.getSqlStatementContext().getTablesContext().getTableNames());
+    }
+    
+    @Getter
+    private static final class BatchedSQLResult {
+        
+        private final Collection<ExecuteResponse> executeResponses = new LinkedList<>();
+        
+        private SQLRouteResult routeResult;
+        
+        private long lastInsertId;
+        
+        private Exception cause;
+        
+        @Setter(AccessLevel.PRIVATE)
+        private StatementTrace statementTrace;
+        
+        private void setRouteResult(final SQLRouteResult routeResult) {
+            this.routeResult = routeResult;
+            lastInsertId = getGeneratedLastInsertId(routeResult);
+        }
+        
+        private void setCause(final Exception cause) {
+            if (null == this.cause) {
+                this.cause = cause;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class BatchedStatement {
+        
+        private final String dataSourceName;
+        
+        private final List<BatchedRouteUnit> routeUnits = new LinkedList<>();
+        
+        @Setter(AccessLevel.PRIVATE)
+        private int[] updateCounts = new int[0];
+        
+        private SQLException cause;
+        
+        @Setter(AccessLevel.PRIVATE)
+        private long executeNanos;
+        
+        private void setCause(final SQLException cause) {
+            if (null == this.cause) {
+                this.cause = cause;
+            }
+        }
+        
+        private void fillSQLResults() {
+            int index = 0;
+            for (BatchedRouteUnit each : routeUnits) {
+                int updateCount = index < updateCounts.length ? updateCounts[index] : Statement.EXECUTE_FAILED;
+                if (Statement.EXECUTE_FAILED == updateCount) {
+                    each.getSqlResult().setCause(null == cause ? new SQLException("Execute batch failed.") : cause);
+                } else {
+                    each.getSqlResult().getExecuteResponses().add(new ExecuteUpdateResponse(Math.max(updateCount, 0), each.getSqlResult().getLastInsertId()));
+                }
+                if (null != each.getSqlResult().getStatementTrace()) {
+                    each.getSqlResult().getStatementTrace().addShardNanos(dataSourceName, executeNanos);
+                }
+                index++;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class BatchedRouteUnit {
+        
+        private final String sql;
+        
+        private final BatchedSQLResult sqlResult;
+    }
+    
+    private static final class BatchSQLExecuteCallback extends SQLExecuteCallback<Void> {
+        
+        private final Map<String, BatchedStatement> batchedStatements;
+        
+        private BatchSQLExecuteCallback(final Map<String, BatchedStatement> batchedStatements) {
+            super(LogicSchemas.getInstance().getDatabaseType(), false);
+            this.batchedStatements = batchedStatements;
+        }
+        
+        @Override
+        protected Void executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
+            BatchedStatement batchedStatement = batchedStatements.get(routeUnit.getDataSourceName());
+            long startNanos = System.nanoTime();
+            try {
+                for (BatchedRouteUnit each : batchedStatement.getRouteUnits()) {
+                    statement.addBatch(each.getSql());
+                }
+                batchedStatement.setUpdateCounts(statement.executeBatch());
+            } catch (final BatchUpdateException ex) {
+                batchedStatement.setUpdateCounts(ex.getUpdateCounts());
+                batchedStatement.setCause(ex);
+                throw ex;
+            } catch (final SQLException ex) {
+                batchedStatement.setCause(ex);
+                throw ex;
+            } finally {
+                batchedStatement.setExecuteNanos(System.nanoTime() - startNanos);
+            }
+            return null;
+        }
+    }
+}
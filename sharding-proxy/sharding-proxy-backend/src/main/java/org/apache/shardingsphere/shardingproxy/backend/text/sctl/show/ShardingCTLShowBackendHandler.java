@@ -20,6 +20,9 @@ package org.apache.shardingsphere.shardingproxy.backend.text.sctl.show;
 import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dal.show.ShowShardingCTLMergedResult;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.SQLTemplateOrder;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.SQLTemplateStatistics;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.SlowQueryAnalyzer;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
@@ -32,22 +35,40 @@ import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.Unsup
 
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Sharding CTL show backend handler.
  *
+ * <p>
+ * {@code sctl:show top_sql_by_time}, {@code top_sql_by_route_units}, {@code top_sql_by_rows} and {@code top_sql_by_shard_skew}
+ * show SQL templates recorded by slow query analyzer, which records nothing until metrics enabled.
+ * </p>
+ *
  * @author zhaojun
+ * @author zhangliang
  */
 public final class ShardingCTLShowBackendHandler implements TextProtocolBackendHandler {
     
+    private static final String TOP_SQL_PREFIX = "TOP_SQL_BY_";
+    
+    private static final int TOP_SQL_SIZE = 20;
+    
+    private static final List<String> TOP_SQL_COLUMN_NAMES = Arrays.asList("SQL_TEMPLATE", "EXECUTIONS", "TOTAL_TIME_MS", "AVG_TIME_MS", "MAX_TIME_MS",
+            "AVG_ROUTE_UNITS", "MAX_ROUTE_UNITS", "TOTAL_ROWS", "MAX_SHARD_SKEW", "SKEWED_DATA_SOURCE");
+    
     private final String sql;
     
     private final BackendConnection backendConnection;
     
     private MergedResult mergedResult;
     
+    private int columnCount;
+    
     public ShardingCTLShowBackendHandler(final String sql, final BackendConnection backendConnection) {
         this.sql = sql.toUpperCase().trim();
         this.backendConnection = backendConnection;
@@ -65,15 +86,40 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
             default:
-                return new ErrorResponse(new UnsupportedShardingCTLTypeException(sql));
+                return createTopSQLResponsePackets(showStatement.get().getValue());
         }
     }
     
     private BackendResponse createResponsePackets(final String columnName, final Object... values) {
         mergedResult = new ShowShardingCTLMergedResult(Collections.singletonList(Arrays.asList(values)));
+        columnCount = 1;
         return new QueryResponse(Collections.singletonList(new QueryHeader("", "", columnName, columnName, 100, Types.VARCHAR, 0)));
     }
     
+    private BackendResponse createTopSQLResponsePackets(final String value) {
+        Optional<SQLTemplateOrder> order = value.startsWith(TOP_SQL_PREFIX) ? SQLTemplateOrder.find(value.substring(TOP_SQL_PREFIX.length())) : Optional.<SQLTemplateOrder>absent();
+        if (!order.isPresent()) {
+            return new ErrorResponse(new UnsupportedShardingCTLTypeException(sql));
+        }
+        List<List<Object>> values = new LinkedList<>();
+        for (SQLTemplateStatistics each : SlowQueryAnalyzer.getInstance().getTopSQLTemplates(order.get(), TOP_SQL_SIZE)) {
+            values.add(Arrays.<Object>asList(each.getSqlTemplate(), each.getExecutions(), formatMillis(each.getTotalNanos()), formatMillis(each.getTotalNanos() / each.getExecutions()),
+                    formatMillis(each.getMaxNanos()), String.format("%.2f", (double) each.getTotalRouteUnits() / each.getExecutions()), each.getMaxRouteUnits(), each.getTotalRows(),
+                    String.format("%.2f", each.getMaxShardSkew()), null == each.getSkewedDataSourceName() ? "" : each.getSkewedDataSourceName()));
+        }
+        mergedResult = new ShowShardingCTLMergedResult(values);
+        columnCount = TOP_SQL_COLUMN_NAMES.size();
+        List<QueryHeader> queryHeaders = new ArrayList<>(columnCount);
+        for (String each : TOP_SQL_COLUMN_NAMES) {
+            queryHeaders.add(new QueryHeader("", "", each, each, 100, Types.VARCHAR, 0));
+        }
+        return new QueryResponse(queryHeaders);
+    }
+    
+    private String formatMillis(final long nanos) {
+        return String.format("%.3f", nanos / 1000000D);
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return null != mergedResult && mergedResult.next();
@@ -81,6 +127,12 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
     
     @Override
     public QueryData getQueryData() throws SQLException {
-        return new QueryData(Collections.singletonList(Types.VARCHAR), Collections.singletonList(mergedResult.getValue(1, Object.class)));
+        List<Integer> columnTypes = new ArrayList<>(columnCount);
+        List<Object> data = new ArrayList<>(columnCount);
+        for (int i = 1; i <= columnCount; i++) {
+            columnTypes.add(Types.VARCHAR);
+            data.add(mergedResult.getValue(i, Object.class));
+        }
+        return new QueryData(columnTypes, data);
     }
 }
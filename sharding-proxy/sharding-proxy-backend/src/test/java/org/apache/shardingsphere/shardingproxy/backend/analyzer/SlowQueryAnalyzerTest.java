@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.analyzer;
+
+import org.apache.shardingsphere.core.execute.ShardingExecuteDataMap;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SlowQueryAnalyzerTest {
+    
+    @Before
+    public void setUp() {
+        ShardingMetrics.getInstance().setEnabled(true);
+        SlowQueryAnalyzer.getInstance().clear();
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingMetrics.getInstance().setEnabled(false);
+        SlowQueryAnalyzer.getInstance().removeStatementTrace();
+        SlowQueryAnalyzer.getInstance().clear();
+    }
+    
+    @Test
+    public void assertGetSQLTemplate() {
+        assertThat(SlowQueryAnalyzer.getSQLTemplate("SELECT * FROM t_order_1  WHERE user_id = 10 AND status =\n'it''s' AND price > 1.5"),
+                is("SELECT * FROM t_order_1 WHERE user_id = ? AND status = ? AND price > ?"));
+        assertThat(SlowQueryAnalyzer.getSQLTemplate("INSERT INTO t_order (order_id, remark) VALUES (?, 'a\\'b')"), is("INSERT INTO t_order (order_id, remark) VALUES (?, ?)"));
+    }
+    
+    @Test
+    public void assertStartStatementTraceWhenDisabled() {
+        ShardingMetrics.getInstance().setEnabled(false);
+        SlowQueryAnalyzer.getInstance().startStatementTrace("SELECT 1");
+        assertFalse(SlowQueryAnalyzer.getInstance().getStatementTrace(ShardingExecuteDataMap.getDataMap()).isPresent());
+    }
+    
+    @Test
+    public void assertRemoveStatementTrace() {
+        SlowQueryAnalyzer.getInstance().startStatementTrace("SELECT 1");
+        assertTrue(SlowQueryAnalyzer.getInstance().getStatementTrace(ShardingExecuteDataMap.getDataMap()).isPresent());
+        assertTrue(SlowQueryAnalyzer.getInstance().removeStatementTrace().isPresent());
+        assertFalse(SlowQueryAnalyzer.getInstance().getStatementTrace(ShardingExecuteDataMap.getDataMap()).isPresent());
+    }
+    
+    @Test
+    public void assertGetTopSQLTemplates() {
+        finishStatementTrace("SELECT * FROM t_order WHERE order_id = 1", 1, 1L);
+        finishStatementTrace("SELECT * FROM t_order WHERE order_id = 2", 1, 1L);
+        finishStatementTrace("SELECT * FROM t_order WHERE status = 'OK'", 4, 100L);
+        List<SQLTemplateStatistics> actual = SlowQueryAnalyzer.getInstance().getTopSQLTemplates(SQLTemplateOrder.ROUTE_UNITS, 10);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getSqlTemplate(), is("SELECT * FROM t_order WHERE status = ?"));
+        assertThat(actual.get(0).getMaxRouteUnits(), is(4));
+        assertThat(actual.get(0).getTotalRows(), is(100L));
+        assertThat(actual.get(1).getSqlTemplate(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(actual.get(1).getExecutions(), is(2L));
+        assertThat(actual.get(1).getTotalRouteUnits(), is(2L));
+        assertThat(SlowQueryAnalyzer.getInstance().getTopSQLTemplates(SQLTemplateOrder.ROWS, 1).size(), is(1));
+    }
+    
+    private void finishStatementTrace(final String sql, final int routeUnits, final long rows) {
+        SlowQueryAnalyzer.getInstance().startStatementTrace(sql);
+        StatementTrace statementTrace = SlowQueryAnalyzer.getInstance().removeStatementTrace().get();
+        statementTrace.setRouteUnits(routeUnits);
+        SlowQueryAnalyzer.getInstance().finishStatementTrace(statementTrace, rows);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.analyzer;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public final class StatementTraceTest {
+    
+    @Test
+    public void assertGetShardSkewWithoutShard() {
+        StatementTrace actual = new StatementTrace("SELECT 1", 0L);
+        assertThat(actual.getShardSkew(), is(0D));
+        assertThat(actual.getSlowestDataSourceName(), nullValue());
+    }
+    
+    @Test
+    public void assertGetShardSkewWithOddShards() {
+        StatementTrace actual = new StatementTrace("SELECT * FROM t_order", 0L);
+        actual.addShardNanos("ds_0", 100L);
+        actual.addShardNanos("ds_1", 800L);
+        actual.addShardNanos("ds_2", 200L);
+        assertThat(actual.getShardSkew(), is(4D));
+        assertThat(actual.getSlowestDataSourceName(), is("ds_1"));
+    }
+    
+    @Test
+    public void assertGetShardSkewWithEvenShards() {
+        StatementTrace actual = new StatementTrace("SELECT * FROM t_order", 0L);
+        for (int i = 0; i < 5; i++) {
+            actual.addShardNanos("ds_" + i, 100L);
+        }
+        actual.addShardNanos("ds_5", 1000L);
+        assertThat(actual.getShardSkew(), is(10D));
+        assertThat(actual.getSlowestDataSourceName(), is("ds_5"));
+    }
+}
@@ -37,10 +37,12 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -172,6 +174,22 @@ public final class BackendConnectionTest {
         assertThat(actual.getStateHandler().getStatus(), is(ConnectionStatus.RELEASE));
     }
     
+    @Test
+    public void assertHoldConnectionWithoutTransaction() throws SQLException {
+        try (BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL)) {
+            backendConnection.setCurrentSchema("schema_0");
+            when(backendDataSource.getConnections((ConnectionMode) any(), anyString(), eq(12), eq(TransactionType.LOCAL))).thenReturn(MockConnectionUtil.mockNewConnections(12));
+            backendConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds1", 12);
+            backendConnection.getStateHandler().setRunningStatusIfNecessary();
+            mockResultSetAndStatement(backendConnection);
+            backendConnection.hold();
+            assertThat(backendConnection.getConnectionSize(), is(12));
+            assertFalse(backendConnection.getCachedResultSets().isEmpty());
+            assertFalse(backendConnection.getCachedStatements().isEmpty());
+            assertThat(backendConnection.getStateHandler().getStatus(), is(ConnectionStatus.RELEASE));
+        }
+    }
+    
     @Test
     public void assertAutoCloseConnectionWithTransaction() throws SQLException {
         BackendConnection actual;
@@ -214,6 +232,22 @@ public final class BackendConnectionTest {
         assertTrue(actual.getCachedStatements().isEmpty());
     }
     
+    @Test
+    public void assertCloseStatements() throws SQLException {
+        Statement closedStatement = mock(Statement.class);
+        ResultSet closedResultSet = mock(ResultSet.class);
+        when(closedResultSet.isClosed()).thenReturn(true);
+        backendConnection.add(closedStatement);
+        backendConnection.add(closedResultSet);
+        mockResultSetAndStatement(backendConnection);
+        backendConnection.close(Collections.singletonList(closedStatement));
+        verify(closedStatement).close();
+        assertThat(backendConnection.getCachedStatements().size(), is(1));
+        assertFalse(backendConnection.getCachedStatements().contains(closedStatement));
+        assertThat(backendConnection.getCachedResultSets().size(), is(1));
+        assertFalse(backendConnection.getCachedResultSets().contains(closedResultSet));
+    }
+    
     private void mockResultSetAndStatement(final BackendConnection backendConnection) {
         ResultSet resultSet = mock(ResultSet.class);
         Statement statement = mock(Statement.class);
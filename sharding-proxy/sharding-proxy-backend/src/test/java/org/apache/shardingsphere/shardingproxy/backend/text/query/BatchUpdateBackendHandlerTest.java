@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.text.query;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Field;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BatchUpdateBackendHandlerTest {
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private LogicSchema logicSchema;
+    
+    @Mock
+    private Statement statement;
+    
+    private DatabaseType originalDatabaseType;
+    
+    @Before
+    public void setUp() {
+        originalDatabaseType = LogicSchemas.getInstance().getDatabaseType();
+        setDatabaseType(DatabaseTypes.getActualDatabaseType("MySQL"));
+    }
+    
+    @After
+    public void tearDown() {
+        setDatabaseType(originalDatabaseType);
+    }
+    
+    @SneakyThrows
+    private void setDatabaseType(final DatabaseType databaseType) {
+        Field field = LogicSchemas.class.getDeclaredField("databaseType");
+        field.setAccessible(true);
+        field.set(LogicSchemas.getInstance(), databaseType);
+    }
+    
+    @Test
+    public void assertIsBatchable() {
+        when(backendConnection.getLogicSchema()).thenReturn(logicSchema);
+        assertTrue(BatchUpdateBackendHandler.isBatchable("INSERT INTO t_order VALUES (1, 1)", backendConnection));
+        assertTrue(BatchUpdateBackendHandler.isBatchable("/* comment */ update t_order SET status = 'OK'", backendConnection));
+        assertTrue(BatchUpdateBackendHandler.isBatchable("\nDELETE FROM t_order", backendConnection));
+        assertFalse(BatchUpdateBackendHandler.isBatchable("SELECT * FROM t_order", backendConnection));
+        assertFalse(BatchUpdateBackendHandler.isBatchable("INSERTED", backendConnection));
+    }
+    
+    @Test
+    public void assertIsNotBatchableWithoutLogicSchema() {
+        assertFalse(BatchUpdateBackendHandler.isBatchable("INSERT INTO t_order VALUES (1, 1)", backendConnection));
+    }
+    
+    @Test
+    public void assertExecute() throws SQLException {
+        mockBackendConnection();
+        when(statement.executeBatch()).thenReturn(new int[] {1, 2});
+        List<BackendResponse> actual = new BatchUpdateBackendHandler(Arrays.asList("INSERT INTO t_order VALUES (1, 1)", "UPDATE t_order SET status = 'OK'"), backendConnection).execute();
+        assertThat(actual.size(), is(2));
+        assertThat(((UpdateResponse) actual.get(0)).getUpdateCount(), is(1L));
+        assertThat(((UpdateResponse) actual.get(1)).getUpdateCount(), is(2L));
+        verify(statement, times(2)).addBatch(anyString());
+        verify(statement).executeBatch();
+        verify(backendConnection).add(statement);
+    }
+    
+    @Test
+    public void assertExecuteWithBatchUpdateException() throws SQLException {
+        mockBackendConnection();
+        when(statement.executeBatch()).thenThrow(new BatchUpdateException(new int[] {1, Statement.EXECUTE_FAILED}));
+        List<BackendResponse> actual = new BatchUpdateBackendHandler(Arrays.asList("INSERT INTO t_order VALUES (1, 1)", "INSERT INTO t_order VALUES (1, 1)"), backendConnection).execute();
+        assertThat(((UpdateResponse) actual.get(0)).getUpdateCount(), is(1L));
+        assertThat(actual.get(1), instanceOf(ErrorResponse.class));
+    }
+    
+    @Test
+    public void assertExecuteWithStoppedBatch() throws SQLException {
+        mockBackendConnection();
+        when(statement.executeBatch()).thenThrow(new BatchUpdateException(new int[] {1}));
+        List<BackendResponse> actual = new BatchUpdateBackendHandler(Arrays.asList("DELETE FROM t_order", "DELETE FROM t_order", "DELETE FROM t_order"), backendConnection).execute();
+        assertThat(actual.get(0), instanceOf(UpdateResponse.class));
+        assertThat(actual.get(1), instanceOf(ErrorResponse.class));
+        assertThat(actual.get(2), instanceOf(ErrorResponse.class));
+    }
+    
+    private void mockBackendConnection() throws SQLException {
+        SQLParseEngine parseEngine = mock(SQLParseEngine.class);
+        when(parseEngine.parse(anyString(), eq(false))).thenReturn(mock(SQLStatement.class));
+        when(logicSchema.getParseEngine()).thenReturn(parseEngine);
+        when(logicSchema.getDataSources()).thenReturn(Collections.<String, YamlDataSourceParameter>singletonMap("ds", null));
+        when(backendConnection.getLogicSchema()).thenReturn(logicSchema);
+        Connection connection = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getURL()).thenReturn("jdbc:mysql://127.0.0.1:3306/ds");
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(connection);
+        when(backendConnection.getConnections(ConnectionMode.MEMORY_STRICTLY, "ds", 1)).thenReturn(Collections.singletonList(connection));
+    }
+}
@@ -17,6 +17,9 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.text.sctl.show;
 
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.SlowQueryAnalyzer;
+import org.apache.shardingsphere.shardingproxy.backend.analyzer.StatementTrace;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
@@ -29,10 +32,13 @@ import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingCTLShowBackendHandlerTest {
     
@@ -62,6 +68,43 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(queryData.getData().iterator().next(), CoreMatchers.<Object>is(0));
     }
     
+    @Test
+    public void assertShowTopSQLByTime() throws SQLException {
+        ShardingMetrics.getInstance().setEnabled(true);
+        try {
+            SlowQueryAnalyzer.getInstance().clear();
+            SlowQueryAnalyzer.getInstance().startStatementTrace("SELECT * FROM t_order WHERE user_id = 1");
+            StatementTrace statementTrace = SlowQueryAnalyzer.getInstance().removeStatementTrace().get();
+            statementTrace.setRouteUnits(2);
+            statementTrace.addShardNanos("ds_0", 100L);
+            statementTrace.addShardNanos("ds_1", 300L);
+            SlowQueryAnalyzer.getInstance().finishStatementTrace(statementTrace, 10L);
+            ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show top_sql_by_time", backendConnection);
+            BackendResponse actual = backendHandler.execute();
+            assertThat(actual, instanceOf(QueryResponse.class));
+            assertThat(((QueryResponse) actual).getQueryHeaders().size(), is(10));
+            assertTrue(backendHandler.next());
+            List<Object> data = backendHandler.getQueryData().getData();
+            assertThat(data.get(0), CoreMatchers.<Object>is("SELECT * FROM t_order WHERE user_id = ?"));
+            assertThat(data.get(1), CoreMatchers.<Object>is(1L));
+            assertThat(data.get(6), CoreMatchers.<Object>is(2));
+            assertThat(data.get(7), CoreMatchers.<Object>is(10L));
+            assertThat(data.get(9), CoreMatchers.<Object>is("ds_1"));
+            assertFalse(backendHandler.next());
+        } finally {
+            ShardingMetrics.getInstance().setEnabled(false);
+            SlowQueryAnalyzer.getInstance().clear();
+        }
+    }
+    
+    @Test
+    public void assertShowTopSQLByUnsupportedOrder() {
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show top_sql_by_latency", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(ErrorResponse.class));
+        assertThat(((ErrorResponse) actual).getCause(), instanceOf(UnsupportedShardingCTLTypeException.class));
+    }
+    
     @Test
     public void assertShowCachedConnectionFailed() {
         backendConnection.setCurrentSchema("schema");
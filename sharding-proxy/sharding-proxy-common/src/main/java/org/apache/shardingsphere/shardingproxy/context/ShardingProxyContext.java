@@ -19,7 +19,10 @@ package org.apache.shardingsphere.shardingproxy.context;
 
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.core.util.ConfigurationLogger;
 import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
@@ -38,8 +41,11 @@ import java.util.Properties;
  * @author sunbufu
  */
 @Getter
+@Slf4j
 public final class ShardingProxyContext {
     
+    private static final String DEPRECATED_FLUSH_THRESHOLD_KEY = "proxy.frontend.flush.threshold";
+    
     private static final ShardingProxyContext INSTANCE = new ShardingProxyContext();
     
     private ShardingProperties shardingProperties = new ShardingProperties(new Properties());
@@ -69,7 +75,8 @@ public final class ShardingProxyContext {
      */
     public void init(final Authentication authentication, final Properties props) {
         this.authentication = authentication;
-        shardingProperties = new ShardingProperties(props);
+        shardingProperties = createShardingProperties(props);
+        ShardingMetrics.getInstance().setEnabled(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.METRICS_ENABLED));
     }
     
     /**
@@ -80,7 +87,16 @@ public final class ShardingProxyContext {
     @Subscribe
     public synchronized void renew(final PropertiesChangedEvent event) {
         ConfigurationLogger.log(event.getProps());
-        shardingProperties = new ShardingProperties(event.getProps());
+        shardingProperties = createShardingProperties(event.getProps());
+        ShardingMetrics.getInstance().setEnabled(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.METRICS_ENABLED));
+    }
+    
+    private ShardingProperties createShardingProperties(final Properties props) {
+        if (props.containsKey(DEPRECATED_FLUSH_THRESHOLD_KEY)) {
+            log.warn("Property '{}' is deprecated and ignored, please use '{}' and '{}' instead.", DEPRECATED_FLUSH_THRESHOLD_KEY,
+                    ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_DELAY_MILLISECONDS.getKey());
+        }
+        return new ShardingProperties(props);
     }
     
     /**
@@ -50,6 +50,15 @@ public final class ShardingProxyContextTest {
         assertThat(ShardingProxyContext.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.PROXY_TRANSACTION_TYPE), is("BASE"));
     }
     
+    @Test
+    public void assertInitWithDeprecatedFlushThreshold() {
+        Properties props = new Properties();
+        props.setProperty("proxy.frontend.flush.threshold", "128");
+        ShardingProxyContext.getInstance().init(new Authentication(), props);
+        assertThat(ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD),
+                is(Integer.valueOf(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getDefaultValue())));
+    }
+    
     @Test
     public void assertRenewShardingProperties() {
         ProxyUser proxyUser = new ProxyUser("root", Collections.singleton("db1"));
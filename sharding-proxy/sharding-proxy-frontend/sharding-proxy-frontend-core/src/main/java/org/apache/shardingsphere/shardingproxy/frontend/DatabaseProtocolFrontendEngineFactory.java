@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 /**
@@ -40,12 +41,15 @@ public final class DatabaseProtocolFrontendEngineFactory {
     /**
      * Create new instance of database protocol frontend engine.
      *
+     * <p>Branch database type, such as H2, is served with protocol of its trunk database type.</p>
+     *
      * @param databaseType database type
      * @return new instance of database protocol frontend engine
      */
     public static DatabaseProtocolFrontendEngine newInstance(final DatabaseType databaseType) {
+        DatabaseType protocolDatabaseType = databaseType instanceof BranchDatabaseType ? ((BranchDatabaseType) databaseType).getTrunkDatabaseType() : databaseType;
         for (DatabaseProtocolFrontendEngine each : NewInstanceServiceLoader.newServiceInstances(DatabaseProtocolFrontendEngine.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
+            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == protocolDatabaseType) {
                 return each;
             }
         }
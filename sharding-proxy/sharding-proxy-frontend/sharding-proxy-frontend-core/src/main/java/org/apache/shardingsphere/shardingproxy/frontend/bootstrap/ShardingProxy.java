@@ -34,9 +34,17 @@ import io.netty.handler.logging.LoggingHandler;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.frontend.metrics.MetricsHttpServer;
+import org.apache.shardingsphere.shardingproxy.frontend.netty.EventLoopMonitor;
 import org.apache.shardingsphere.shardingproxy.frontend.netty.ServerHandlerInitializer;
 
+import java.util.Collection;
+import java.util.LinkedList;
+
 /**
  * Sharding-Proxy.
  *
@@ -73,32 +81,54 @@ public final class ShardingProxy {
     public void start(final int port) {
         try {
             ServerBootstrap bootstrap = new ServerBootstrap();
-            bossGroup = createEventLoopGroup();
-            if (bossGroup instanceof EpollEventLoopGroup) {
-                groupsEpoll(bootstrap);
+            int bindCount;
+            if (Epoll.isAvailable()) {
+                bindCount = getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_ACCEPTOR_THREADS);
+                groupsEpoll(bootstrap, bindCount);
             } else {
+                bindCount = 1;
                 groupsNio(bootstrap);
             }
-            ChannelFuture future = bootstrap.bind(port).sync();
-            future.channel().closeFuture().sync();
+            EventLoopMonitor.getInstance().start("Acceptor", bossGroup);
+            EventLoopMonitor.getInstance().start("Worker", workerGroup);
+            int metricsPort = getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_METRICS_PORT);
+            if (metricsPort > 0) {
+                MetricsHttpServer.getInstance().start(getShardingProperties().<String>getValue(ShardingPropertiesConstant.PROXY_METRICS_HOST), metricsPort);
+            }
+            Collection<ChannelFuture> closeFutures = new LinkedList<>();
+            for (int i = 0; i < bindCount; i++) {
+                closeFutures.add(bootstrap.bind(port).sync().channel().closeFuture());
+            }
+            for (ChannelFuture each : closeFutures) {
+                each.sync();
+            }
         } finally {
+            MetricsHttpServer.getInstance().stop();
+            EventLoopMonitor.getInstance().stop();
             workerGroup.shutdownGracefully();
             bossGroup.shutdownGracefully();
             BackendExecutorContext.getInstance().getExecuteEngine().close();
         }
     }
     
-    private EventLoopGroup createEventLoopGroup() {
-        return Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
+    private ShardingProperties getShardingProperties() {
+        return ShardingProxyContext.getInstance().getShardingProperties();
+    }
+    
+    private WriteBufferWaterMark getWriteBufferWaterMark() {
+        return new WriteBufferWaterMark(getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_WRITE_BUFFER_LOW_WATER_MARK),
+                getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_WRITE_BUFFER_HIGH_WATER_MARK));
     }
     
-    private void groupsEpoll(final ServerBootstrap bootstrap) {
-        workerGroup = new EpollEventLoopGroup();
+    private void groupsEpoll(final ServerBootstrap bootstrap, final int acceptorThreads) {
+        bossGroup = new EpollEventLoopGroup(acceptorThreads);
+        workerGroup = new EpollEventLoopGroup(getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_WORKER_THREADS));
         bootstrap.group(bossGroup, workerGroup)
                 .channel(EpollServerSocketChannel.class)
-                .option(EpollChannelOption.SO_BACKLOG, 128)
-                .option(EpollChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024 * 1024, 16 * 1024 * 1024))
+                .option(EpollChannelOption.SO_BACKLOG, getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_BACKLOG))
+                .option(EpollChannelOption.SO_REUSEPORT, acceptorThreads > 1)
                 .option(EpollChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(EpollChannelOption.WRITE_BUFFER_WATER_MARK, getWriteBufferWaterMark())
                 .childOption(EpollChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(EpollChannelOption.TCP_NODELAY, true)
                 .handler(new LoggingHandler(LogLevel.INFO))
@@ -106,12 +136,13 @@ public final class ShardingProxy {
     }
     
     private void groupsNio(final ServerBootstrap bootstrap) {
-        workerGroup = new NioEventLoopGroup();
+        bossGroup = new NioEventLoopGroup(1);
+        workerGroup = new NioEventLoopGroup(getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_WORKER_THREADS));
         bootstrap.group(bossGroup, workerGroup)
                 .channel(NioServerSocketChannel.class)
-                .option(ChannelOption.SO_BACKLOG, 128)
-                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024 * 1024, 16 * 1024 * 1024))
+                .option(ChannelOption.SO_BACKLOG, getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_BACKLOG))
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, getWriteBufferWaterMark())
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .handler(new LoggingHandler(LogLevel.INFO))
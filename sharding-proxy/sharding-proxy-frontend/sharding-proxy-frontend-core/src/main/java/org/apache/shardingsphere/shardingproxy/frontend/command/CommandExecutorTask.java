@@ -17,16 +17,22 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.command;
 
+import com.google.common.base.Optional;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.ReferenceCountUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.execute.hook.RootInvokeHook;
 import org.apache.shardingsphere.core.execute.hook.SPIRootInvokeHook;
+import org.apache.shardingsphere.core.route.router.masterslave.MasterVisitedManager;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.api.FlushCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.BatchCommandExecuteEngine;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWritingProgress;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
@@ -34,11 +40,19 @@ import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Command executor task.
  *
+ * <p>
+ * Pipelined messages are executed in order.
+ * Consecutive batchable command packets are executed by one batch command executor, the others are executed one by one.
+ * </p>
+ *
  * @author zhangliang
  */
 @RequiredArgsConstructor
@@ -51,49 +65,142 @@ public final class CommandExecutorTask implements Runnable {
     
     private final ChannelHandlerContext context;
     
-    private final Object message;
+    private final List<Object> messages;
+    
+    private final List<CommandPacket> batchedCommandPackets = new ArrayList<>();
+    
+    private CommandPacketType batchedCommandPacketType;
+    
+    public CommandExecutorTask(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final BackendConnection backendConnection, final ChannelHandlerContext context, final Object message) {
+        this(databaseProtocolFrontendEngine, backendConnection, context, Collections.singletonList(message));
+    }
     
     @Override
     public void run() {
+        CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
+        for (int i = 0; i < messages.size(); i++) {
+            CommandPacketType type;
+            CommandPacket commandPacket;
+            try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) messages.get(i))) {
+                type = commandExecuteEngine.getCommandPacketType(payload);
+                commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                executeBatchedCommandPackets();
+                log.error("Exception occur: ", ex);
+                context.writeAndFlush(commandExecuteEngine.getErrorPacket(ex));
+                continue;
+            }
+            if (isBatchable(commandExecuteEngine, type, commandPacket)) {
+                if (type != batchedCommandPacketType) {
+                    executeBatchedCommandPackets();
+                }
+                batchedCommandPacketType = type;
+                batchedCommandPackets.add(commandPacket);
+                continue;
+            }
+            executeBatchedCommandPackets();
+            if (!execute(type, Collections.singletonList(commandPacket), messages.subList(i + 1, messages.size()))) {
+                return;
+            }
+        }
+        executeBatchedCommandPackets();
+    }
+    
+    /**
+     * Release messages which are not executed.
+     */
+    public void release() {
+        for (Object each : messages) {
+            ReferenceCountUtil.release(each);
+        }
+    }
+    
+    private boolean isBatchable(final CommandExecuteEngine commandExecuteEngine, final CommandPacketType type, final CommandPacket commandPacket) {
+        return commandExecuteEngine instanceof BatchCommandExecuteEngine && ((BatchCommandExecuteEngine) commandExecuteEngine).isBatchable(type, commandPacket, backendConnection);
+    }
+    
+    private void executeBatchedCommandPackets() {
+        if (batchedCommandPackets.isEmpty()) {
+            return;
+        }
+        execute(batchedCommandPacketType, new ArrayList<>(batchedCommandPackets), Collections.<Object>emptyList());
+        batchedCommandPackets.clear();
+        batchedCommandPacketType = null;
+    }
+    
+    private boolean execute(final CommandPacketType type, final List<CommandPacket> commandPackets, final List<Object> remainingMessages) {
         RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
         rootInvokeHook.start();
         int connectionSize = 0;
-        boolean isNeedFlush = false;
-        try (BackendConnection backendConnection = this.backendConnection;
-             PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message)) {
+        boolean isStreaming = false;
+        boolean result = true;
+        try {
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             backendConnection.getStateHandler().setRunningStatusIfNecessary();
-            isNeedFlush = executeCommand(context, payload, backendConnection);
+            Optional<QueryDataStreamingTask> streamingTask = executeCommand(context, type, commandPackets, backendConnection);
             connectionSize = backendConnection.getConnectionSize();
+            if (streamingTask.isPresent()) {
+                isStreaming = true;
+                if (!remainingMessages.isEmpty()) {
+                    streamingTask.get().setNextTask(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, remainingMessages));
+                }
+                result = streamingTask.get().stream();
+                if (!result) {
+                    MasterVisitedManager.clear();
+                }
+            }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
             log.error("Exception occur: ", ex);
             context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
         } finally {
-            if (isNeedFlush) {
-                context.flush();
+            if (!isStreaming) {
+                closeBackendConnection();
             }
             rootInvokeHook.finish(connectionSize);
         }
+        return result;
     }
     
-    private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload, final BackendConnection backendConnection) throws SQLException {
+    private Optional<QueryDataStreamingTask> executeCommand(
+            final ChannelHandlerContext context, final CommandPacketType type, final List<CommandPacket> commandPackets, final BackendConnection backendConnection) throws SQLException {
         CommandExecuteEngine commandExecuteEngine = databaseProtocolFrontendEngine.getCommandExecuteEngine();
-        CommandPacketType type = commandExecuteEngine.getCommandPacketType(payload);
-        CommandPacket commandPacket = commandExecuteEngine.getCommandPacket(payload, type, backendConnection);
-        CommandExecutor commandExecutor = commandExecuteEngine.getCommandExecutor(type, commandPacket, backendConnection);
+        CommandExecutor commandExecutor = 1 == commandPackets.size() ? commandExecuteEngine.getCommandExecutor(type, commandPackets.get(0), backendConnection)
+                : ((BatchCommandExecuteEngine) commandExecuteEngine).getBatchCommandExecutor(type, commandPackets, backendConnection);
         Collection<DatabasePacket> responsePackets = commandExecutor.execute();
-        if (responsePackets.isEmpty()) {
-            return false;
+        if (responsePackets.isEmpty() && !isQuery(commandExecutor)) {
+            return Optional.absent();
         }
         for (DatabasePacket each : responsePackets) {
             context.write(each);
         }
         if (commandExecutor instanceof QueryCommandExecutor) {
-            commandExecuteEngine.writeQueryData(context, backendConnection, (QueryCommandExecutor) commandExecutor, responsePackets.size());
-            return true;
+            return Optional.of(new QueryDataStreamingTask(
+                    databaseProtocolFrontendEngine, backendConnection, context, (QueryCommandExecutor) commandExecutor, new QueryDataWritingProgress(responsePackets.size())));
+        }
+        if (databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket() || commandExecutor instanceof FlushCommandExecutor) {
+            context.flush();
+        }
+        return Optional.absent();
+    }
+    
+    private boolean isQuery(final CommandExecutor commandExecutor) {
+        return commandExecutor instanceof QueryCommandExecutor && ((QueryCommandExecutor) commandExecutor).isQuery();
+    }
+    
+    private void closeBackendConnection() {
+        if (databaseProtocolFrontendEngine.getCommandExecuteEngine().isBackendConnectionHeld(backendConnection)) {
+            backendConnection.hold();
+            return;
+        }
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
         }
-        return databaseProtocolFrontendEngine.getFrontendContext().isFlushForPerCommandPacket();
     }
 }
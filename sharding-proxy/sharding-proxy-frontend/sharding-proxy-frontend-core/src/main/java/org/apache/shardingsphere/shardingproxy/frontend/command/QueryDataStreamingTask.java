@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import com.google.common.base.Optional;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWritingProgress;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+
+import java.sql.SQLException;
+
+/**
+ * Query data streaming task.
+ *
+ * <p>
+ * Query data are streamed to frontend channel until the channel becomes unwritable.
+ * Then the task suspends itself on the channel instead of parking current thread, and is resumed after the channel becomes writable again.
+ * Backend connection is released only after all query data are written, and the next task of pipelined commands is run after that.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class QueryDataStreamingTask implements Runnable {
+    
+    private static final AttributeKey<QueryDataStreamingTask> SUSPENDED_TASK = AttributeKey.valueOf("SUSPENDED_QUERY_DATA_STREAMING_TASK");
+    
+    private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    private final BackendConnection backendConnection;
+    
+    private final ChannelHandlerContext context;
+    
+    private final QueryCommandExecutor queryCommandExecutor;
+    
+    private final QueryDataWritingProgress progress;
+    
+    @Setter
+    private Runnable nextTask;
+    
+    /**
+     * Take suspended task of channel.
+     *
+     * @param channel frontend channel
+     * @return suspended task
+     */
+    public static Optional<QueryDataStreamingTask> takeSuspendedTask(final Channel channel) {
+        return Optional.fromNullable(channel.attr(SUSPENDED_TASK).getAndSet(null));
+    }
+    
+    /**
+     * Release pending messages of next task.
+     *
+     * <p>
+     * Suspended task is abandoned if frontend channel is closed, so messages which are not executed yet should be released.
+     * </p>
+     */
+    public void release() {
+        if (nextTask instanceof CommandExecutorTask) {
+            ((CommandExecutorTask) nextTask).release();
+        }
+    }
+    
+    @Override
+    public void run() {
+        if (stream() && null != nextTask) {
+            nextTask.run();
+        }
+    }
+    
+    /**
+     * Stream query data.
+     *
+     * @return streaming is completed or suspended
+     */
+    public boolean stream() {
+        boolean result = true;
+        try {
+            result = writeQueryData();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Exception occur: ", ex);
+            context.write(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        }
+        if (result) {
+            complete();
+        }
+        return result;
+    }
+    
+    private boolean writeQueryData() throws SQLException {
+        Attribute<QueryDataStreamingTask> suspendedTask = context.channel().attr(SUSPENDED_TASK);
+        while (!databaseProtocolFrontendEngine.getCommandExecuteEngine().writeQueryData(context, queryCommandExecutor, progress)) {
+            context.channel().config().setAutoRead(false);
+            suspendedTask.set(this);
+            if (!context.channel().isWritable() || !suspendedTask.compareAndSet(this, null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void complete() {
+        context.channel().config().setAutoRead(true);
+        context.flush();
+        if (databaseProtocolFrontendEngine.getCommandExecuteEngine().isBackendConnectionHeld(backendConnection)) {
+            backendConnection.hold();
+            return;
+        }
+        try {
+            backendConnection.close();
+        } catch (final SQLException ex) {
+            log.error("Exception occur: ", ex);
+            context.writeAndFlush(databaseProtocolFrontendEngine.getCommandExecuteEngine().getErrorPacket(ex));
+        }
+    }
+}
@@ -17,14 +17,14 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
+import com.google.common.base.Optional;
 import io.netty.channel.ChannelId;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Channel thread executor group.
@@ -32,18 +32,26 @@ import java.util.concurrent.Executors;
  * <p>
  *     Manage the thread for each channel invoking.
  *     This ensure XA transaction framework processed by current thread id.
+ *     The thread is a virtual thread if virtual thread is enabled and supported.
  * </p>
  * 
  * @author zhaojun
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ChannelThreadExecutorGroup {
     
+    private static final String NAME_PREFIX = "Channel-";
+    
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
     private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private final Optional<ThreadFactory> virtualThreadFactory;
+    
+    private ChannelThreadExecutorGroup() {
+        virtualThreadFactory = VirtualThreadFactoryLoader.load(NAME_PREFIX);
+    }
+    
     /**
      * Get channel thread executor group.
      * 
@@ -59,7 +67,7 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        executorServices.put(channelId, virtualThreadFactory.isPresent() ? Executors.newSingleThreadExecutor(virtualThreadFactory.get()) : Executors.newSingleThreadExecutor());
     }
     
     /**
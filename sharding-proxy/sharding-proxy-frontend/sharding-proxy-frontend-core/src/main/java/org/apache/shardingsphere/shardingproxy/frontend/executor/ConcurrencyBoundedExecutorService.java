@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor service which bounds count of tasks running concurrently.
+ *
+ * <p>
+ * Submitted tasks get their threads at once, and wait for a permit in their threads before running.
+ * Waiting on semaphore unmounts virtual thread from its carrier thread, so waiting tasks do not occupy carrier threads.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class ConcurrencyBoundedExecutorService extends AbstractExecutorService {
+    
+    private final ExecutorService delegate;
+    
+    private final Semaphore permits;
+    
+    ConcurrencyBoundedExecutorService(final ExecutorService delegate, final int maxConcurrency) {
+        this.delegate = delegate;
+        permits = new Semaphore(maxConcurrency);
+    }
+    
+    @Override
+    public void execute(final Runnable command) {
+        delegate.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            }
+        });
+    }
+    
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+    
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+    
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+    
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -17,15 +17,24 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
+import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.ShardingExecutorService;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
+import java.util.concurrent.ThreadFactory;
+
 /**
  * Command execute engine.
  *
+ * <p>
+ * Commands are executed by a fixed pool of {@code acceptor.size} platform threads,
+ * or by virtual threads if virtual thread is enabled and supported, and {@code acceptor.size} still bounds commands executed concurrently.
+ * </p>
+ *
  * @author wuxu
  * @author zhaojun
  */
@@ -35,6 +44,8 @@ public final class UserExecutorGroup implements AutoCloseable {
     
     private static final String NAME_FORMAT = "Command-%d";
     
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "Command-";
+    
     private static final UserExecutorGroup INSTANCE = new UserExecutorGroup();
     
     private final ShardingExecutorService shardingExecutorService;
@@ -43,8 +54,15 @@ public final class UserExecutorGroup implements AutoCloseable {
     private final ListeningExecutorService executorService;
     
     private UserExecutorGroup() {
-        shardingExecutorService = new ShardingExecutorService(SHARDING_PROXY_CONTEXT.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.ACCEPTOR_SIZE), NAME_FORMAT);
-        executorService = shardingExecutorService.getExecutorService();
+        int acceptorSize = SHARDING_PROXY_CONTEXT.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.ACCEPTOR_SIZE);
+        Optional<ThreadFactory> virtualThreadFactory = VirtualThreadFactoryLoader.load(VIRTUAL_THREAD_NAME_PREFIX);
+        if (virtualThreadFactory.isPresent()) {
+            shardingExecutorService = new ShardingExecutorService(0, virtualThreadFactory.get());
+            executorService = MoreExecutors.listeningDecorator(new ConcurrencyBoundedExecutorService(shardingExecutorService.getExecutorService(), acceptorSize));
+        } else {
+            shardingExecutorService = new ShardingExecutorService(acceptorSize, NAME_FORMAT);
+            executorService = shardingExecutorService.getExecutorService();
+        }
     }
     
     /**
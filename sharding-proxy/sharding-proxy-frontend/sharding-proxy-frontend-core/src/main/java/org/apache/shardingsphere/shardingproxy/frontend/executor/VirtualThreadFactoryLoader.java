@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread factory loader.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+final class VirtualThreadFactoryLoader {
+    
+    /**
+     * Load virtual thread factory if virtual thread is enabled and supported.
+     *
+     * @param namePrefix thread name prefix
+     * @return virtual thread factory
+     */
+    static Optional<ThreadFactory> load(final String namePrefix) {
+        if (!ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED)) {
+            return Optional.absent();
+        }
+        Optional<ThreadFactory> result = ShardingThreadFactoryBuilder.buildVirtual(namePrefix);
+        if (!result.isPresent()) {
+            log.warn("Virtual thread is not supported by current JVM, commands are executed by platform threads.");
+        }
+        return result;
+    }
+}
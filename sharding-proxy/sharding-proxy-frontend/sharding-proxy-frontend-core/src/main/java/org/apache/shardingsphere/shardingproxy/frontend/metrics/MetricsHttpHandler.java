@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.metrics;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.CharsetUtil;
+import org.apache.shardingsphere.core.metrics.PrometheusMetricsFormatter;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+import org.apache.shardingsphere.shardingproxy.frontend.netty.EventLoopMetrics;
+import org.apache.shardingsphere.shardingproxy.frontend.netty.EventLoopMonitor;
+import org.apache.shardingsphere.shardingproxy.frontend.netty.FrontendFlushStatistics;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP handler of metrics endpoint.
+ *
+ * @author zhangliang
+ */
+public final class MetricsHttpHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+    
+    private static final String METRICS_PATH = "/metrics";
+    
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    @Override
+    protected void channelRead0(final ChannelHandlerContext context, final FullHttpRequest request) {
+        FullHttpResponse response;
+        if (HttpMethod.GET.equals(request.method()) && METRICS_PATH.equals(new QueryStringDecoder(request.uri()).path())) {
+            response = createResponse(HttpResponseStatus.OK, collectMetrics());
+        } else {
+            response = createResponse(HttpResponseStatus.NOT_FOUND, "Metrics are served by path " + METRICS_PATH + ".\n");
+        }
+        context.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
+    }
+    
+    private FullHttpResponse createResponse(final HttpResponseStatus status, final String content) {
+        ByteBuf body = Unpooled.copiedBuffer(content, CharsetUtil.UTF_8);
+        FullHttpResponse result = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, body);
+        result.headers().set(HttpHeaderNames.CONTENT_TYPE, CONTENT_TYPE);
+        result.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+        return result;
+    }
+    
+    /**
+     * Collect metrics of Sharding-Proxy in Prometheus text format.
+     *
+     * @return metrics in Prometheus text format
+     */
+    public static String collectMetrics() {
+        StringBuilder result = new StringBuilder(PrometheusMetricsFormatter.format(ShardingMetrics.getInstance().getSnapshot()));
+        PrometheusMetricsFormatter.appendType(result, "shardingsphere_proxy_flush_total", "counter");
+        PrometheusMetricsFormatter.appendSample(result, "shardingsphere_proxy_flush_total", "", FrontendFlushStatistics.getInstance().getFlushCount());
+        PrometheusMetricsFormatter.appendType(result, "shardingsphere_proxy_flushed_bytes_total", "counter");
+        PrometheusMetricsFormatter.appendSample(result, "shardingsphere_proxy_flushed_bytes_total", "", FrontendFlushStatistics.getInstance().getFlushedBytes());
+        List<EventLoopMetrics> eventLoopMetrics = EventLoopMonitor.getInstance().getMetrics();
+        if (!eventLoopMetrics.isEmpty()) {
+            PrometheusMetricsFormatter.appendType(result, "shardingsphere_proxy_event_loop_pending_tasks", "gauge");
+            for (EventLoopMetrics each : eventLoopMetrics) {
+                PrometheusMetricsFormatter.appendSample(result, "shardingsphere_proxy_event_loop_pending_tasks", "name=\"" + each.getName() + "\"", each.getPendingTasks());
+            }
+            PrometheusMetricsFormatter.appendType(result, "shardingsphere_proxy_event_loop_task_latency_seconds", "gauge");
+            for (EventLoopMetrics each : eventLoopMetrics) {
+                PrometheusMetricsFormatter.appendSample(result, "shardingsphere_proxy_event_loop_task_latency_seconds", "name=\"" + each.getName() + "\"",
+                        (double) each.getTaskLatencyNanos() / TimeUnit.SECONDS.toNanos(1L));
+            }
+        }
+        return result.toString();
+    }
+}
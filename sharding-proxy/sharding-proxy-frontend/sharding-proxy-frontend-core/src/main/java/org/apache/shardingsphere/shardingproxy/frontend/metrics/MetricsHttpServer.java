@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.metrics;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP server of metrics endpoint.
+ *
+ * <p>
+ * Metrics endpoint runs on its own single thread event loop, so scraping does not disturb event loops of database protocol.
+ * Metrics endpoint is not authenticated, it should be bound to loopback or internal network interface only.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class MetricsHttpServer {
+    
+    private static final MetricsHttpServer INSTANCE = new MetricsHttpServer();
+    
+    private static final int MAX_CONTENT_LENGTH = 64 * 1024;
+    
+    private EventLoopGroup eventLoopGroup;
+    
+    private Channel channel;
+    
+    /**
+     * Get instance of metrics HTTP server.
+     *
+     * @return instance of metrics HTTP server
+     */
+    public static MetricsHttpServer getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Start metrics HTTP server.
+     *
+     * @param host host
+     * @param port port
+     */
+    @SneakyThrows
+    public synchronized void start(final String host, final int port) {
+        if (null != channel) {
+            return;
+        }
+        eventLoopGroup = new NioEventLoopGroup(1);
+        ServerBootstrap bootstrap = new ServerBootstrap();
+        bootstrap.group(eventLoopGroup).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<SocketChannel>() {
+            
+            @Override
+            protected void initChannel(final SocketChannel socketChannel) {
+                socketChannel.pipeline().addLast(new HttpServerCodec(), new HttpObjectAggregator(MAX_CONTENT_LENGTH), new MetricsHttpHandler());
+            }
+        });
+        try {
+            channel = bootstrap.bind(host, port).sync().channel();
+        } finally {
+            if (null == channel) {
+                eventLoopGroup.shutdownGracefully();
+            }
+        }
+        log.info("Metrics are served by http://{}:{}/metrics.", host, port);
+    }
+    
+    /**
+     * Stop metrics HTTP server.
+     */
+    public synchronized void stop() {
+        if (null == channel) {
+            return;
+        }
+        channel.close();
+        eventLoopGroup.shutdownGracefully();
+        channel = null;
+        eventLoopGroup = null;
+    }
+}
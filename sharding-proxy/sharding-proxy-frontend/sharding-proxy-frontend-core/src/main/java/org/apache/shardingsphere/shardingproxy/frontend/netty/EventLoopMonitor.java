@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Event loop monitor.
+ *
+ * <p>
+ * Pending tasks are read from each event loop directly.
+ * Task latency is the delay between a probe task submitted to event loop and executed by it, probe tasks are submitted periodically.
+ * Name, event loop and task latency are kept in one entry, so iterating entries is safe while event loops are started or stopped to monitor.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EventLoopMonitor {
+    
+    private static final long PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private static final EventLoopMonitor INSTANCE = new EventLoopMonitor();
+    
+    private final List<MonitoredEventLoop> monitoredEventLoops = new CopyOnWriteArrayList<>();
+    
+    private ScheduledExecutorService probeExecutor;
+    
+    /**
+     * Get instance of event loop monitor.
+     *
+     * @return event loop monitor
+     */
+    public static EventLoopMonitor getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Start to monitor event loops of group.
+     *
+     * @param groupName name of event loop group
+     * @param eventLoopGroup event loop group
+     */
+    public synchronized void start(final String groupName, final EventLoopGroup eventLoopGroup) {
+        List<MonitoredEventLoop> eventLoops = new ArrayList<>();
+        int index = 0;
+        for (EventExecutor each : eventLoopGroup) {
+            eventLoops.add(new MonitoredEventLoop(groupName + "-" + index++, each));
+        }
+        monitoredEventLoops.addAll(eventLoops);
+        if (null == probeExecutor) {
+            probeExecutor = Executors.newSingleThreadScheduledExecutor(ShardingThreadFactoryBuilder.build("EventLoop-Monitor"));
+            probeExecutor.scheduleAtFixedRate(new Runnable() {
+                
+                @Override
+                public void run() {
+                    probe();
+                }
+            }, PROBE_INTERVAL_MILLISECONDS, PROBE_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void probe() {
+        for (MonitoredEventLoop each : monitoredEventLoops) {
+            if (each.getEventLoop().isShuttingDown()) {
+                continue;
+            }
+            final AtomicLong taskLatency = each.getTaskLatency();
+            final long submitTime = System.nanoTime();
+            try {
+                each.getEventLoop().execute(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                        taskLatency.set(System.nanoTime() - submitTime);
+                    }
+                });
+            } catch (final RejectedExecutionException ignore) {
+            }
+        }
+    }
+    
+    /**
+     * Stop to monitor all event loops.
+     */
+    public synchronized void stop() {
+        if (null != probeExecutor) {
+            probeExecutor.shutdownNow();
+            probeExecutor = null;
+        }
+        monitoredEventLoops.clear();
+    }
+    
+    /**
+     * Get metrics of monitored event loops.
+     *
+     * @return metrics of event loops
+     */
+    public List<EventLoopMetrics> getMetrics() {
+        List<EventLoopMetrics> result = new ArrayList<>();
+        for (MonitoredEventLoop each : monitoredEventLoops) {
+            EventExecutor eventLoop = each.getEventLoop();
+            int pendingTasks = eventLoop instanceof SingleThreadEventExecutor ? ((SingleThreadEventExecutor) eventLoop).pendingTasks() : 0;
+            result.add(new EventLoopMetrics(each.getName(), pendingTasks, each.getTaskLatency().get()));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class MonitoredEventLoop {
+        
+        private final String name;
+        
+        private final EventExecutor eventLoop;
+        
+        private final AtomicLong taskLatency = new AtomicLong();
+    }
+}
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.netty;
 
+import com.google.common.base.Optional;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -27,12 +29,17 @@ import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesCons
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.shardingproxy.frontend.command.QueryDataStreamingTask;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.ChannelThreadExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.frontend.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
 /**
  * Frontend channel inbound handler.
  * 
@@ -51,6 +58,10 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             TransactionType.valueOf(ShardingProxyContext.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.PROXY_TRANSACTION_TYPE)),
             ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_HINT_ENABLED));
     
+    private final boolean pipelinedBatchEnabled = ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_PIPELINED_BATCH_ENABLED);
+    
+    private final List<Object> pipelinedMessages = new ArrayList<>();
+    
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
@@ -63,8 +74,25 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authorized = auth(context, (ByteBuf) message);
             return;
         }
-        CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
-                backendConnection.getTransactionType(), context.channel().id()).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+        if (pipelinedBatchEnabled) {
+            pipelinedMessages.add(message);
+            return;
+        }
+        getExecutorService(context).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message));
+    }
+    
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext context) {
+        if (!pipelinedMessages.isEmpty()) {
+            getExecutorService(context).execute(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, new ArrayList<>(pipelinedMessages)));
+            pipelinedMessages.clear();
+        }
+        context.fireChannelReadComplete();
+    }
+    
+    private ExecutorService getExecutorService(final ChannelHandlerContext context) {
+        return CommandExecutorSelector.getExecutor(databaseProtocolFrontendEngine.getFrontendContext().isOccupyThreadForPerConnection(), backendConnection.isSupportHint(),
+                backendConnection.getTransactionType(), context.channel().id());
     }
     
     private boolean auth(final ChannelHandlerContext context, final ByteBuf message) {
@@ -83,15 +111,31 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     @SneakyThrows
     public void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        releasePendingMessages(context);
         databaseProtocolFrontendEngine.release(backendConnection);
         backendConnection.close(true);
         ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
     }
     
+    private void releasePendingMessages(final ChannelHandlerContext context) {
+        Optional<QueryDataStreamingTask> suspendedTask = QueryDataStreamingTask.takeSuspendedTask(context.channel());
+        if (suspendedTask.isPresent()) {
+            suspendedTask.get().release();
+        }
+        for (Object each : pipelinedMessages) {
+            ReferenceCountUtil.release(each);
+        }
+        pipelinedMessages.clear();
+    }
+    
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
-        if (context.channel().isWritable()) {
-            backendConnection.getResourceSynchronizer().doNotify();
+        if (!context.channel().isWritable()) {
+            return;
+        }
+        Optional<QueryDataStreamingTask> suspendedTask = QueryDataStreamingTask.takeSuspendedTask(context.channel());
+        if (suspendedTask.isPresent()) {
+            getExecutorService(context).execute(suspendedTask.get());
         }
     }
 }
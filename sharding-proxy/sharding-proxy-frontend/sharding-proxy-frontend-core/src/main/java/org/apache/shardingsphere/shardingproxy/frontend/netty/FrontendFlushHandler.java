@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frontend flush handler.
+ *
+ * <p>
+ * Flushes requested by command executors are consolidated by bytes pending in channel.
+ * Pending bytes are flushed immediately once they reach threshold or channel becomes unwritable,
+ * otherwise flush is deferred until writes already queued in event loop are finished, or until the configured delay.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class FrontendFlushHandler extends ChannelDuplexHandler {
+    
+    private final int flushBytesThreshold;
+    
+    private final int flushDelayMilliseconds;
+    
+    private long pendingBytes;
+    
+    private boolean flushScheduled;
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (message instanceof ByteBuf) {
+            pendingBytes += ((ByteBuf) message).readableBytes();
+        }
+        context.write(message, promise);
+        if (pendingBytes >= flushBytesThreshold) {
+            flushPendingBytes(context);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) {
+        if (pendingBytes >= flushBytesThreshold || !context.channel().isWritable()) {
+            flushPendingBytes(context);
+        } else if (!flushScheduled) {
+            scheduleFlush(context);
+        }
+    }
+    
+    private void scheduleFlush(final ChannelHandlerContext context) {
+        flushScheduled = true;
+        Runnable flushTask = new Runnable() {
+            
+            @Override
+            public void run() {
+                flushScheduled = false;
+                flushPendingBytes(context);
+            }
+        };
+        if (0 == flushDelayMilliseconds) {
+            context.executor().execute(flushTask);
+        } else {
+            context.executor().schedule(flushTask, flushDelayMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void flushPendingBytes(final ChannelHandlerContext context) {
+        if (0 == pendingBytes) {
+            return;
+        }
+        FrontendFlushStatistics.getInstance().record(pendingBytes);
+        pendingBytes = 0;
+        context.flush();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Frontend flush statistics.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FrontendFlushStatistics {
+    
+    private static final FrontendFlushStatistics INSTANCE = new FrontendFlushStatistics();
+    
+    private final AtomicLong flushCount = new AtomicLong();
+    
+    private final AtomicLong flushedBytes = new AtomicLong();
+    
+    /**
+     * Get instance of frontend flush statistics.
+     *
+     * @return frontend flush statistics
+     */
+    public static FrontendFlushStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record flush.
+     *
+     * @param bytes flushed bytes
+     */
+    public void record(final long bytes) {
+        flushCount.incrementAndGet();
+        flushedBytes.addAndGet(bytes);
+    }
+    
+    /**
+     * Get count of flushes.
+     *
+     * @return count of flushes
+     */
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+    
+    /**
+     * Get total flushed bytes.
+     *
+     * @return total flushed bytes
+     */
+    public long getFlushedBytes() {
+        return flushedBytes.get();
+    }
+    
+    /**
+     * Get average bytes per flush.
+     *
+     * @return average bytes per flush
+     */
+    public long getAverageBytesPerFlush() {
+        long count = flushCount.get();
+        return 0 == count ? 0L : flushedBytes.get() / count;
+    }
+}
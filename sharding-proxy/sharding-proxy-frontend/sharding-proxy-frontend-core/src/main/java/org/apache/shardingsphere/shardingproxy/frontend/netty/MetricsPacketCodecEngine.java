@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.metrics.MetricsCounter;
+import org.apache.shardingsphere.core.metrics.MetricsStage;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
+
+import java.util.List;
+
+/**
+ * Database packet codec engine which records encode latency and written bytes.
+ *
+ * @author zhangliang
+ * 
+ * @param <T> type of database packet
+ */
+@RequiredArgsConstructor
+public final class MetricsPacketCodecEngine<T extends DatabasePacket> implements DatabasePacketCodecEngine<T> {
+    
+    private final DatabasePacketCodecEngine<T> databasePacketCodecEngine;
+    
+    @Override
+    public boolean isValidHeader(final int readableBytes) {
+        return databasePacketCodecEngine.isValidHeader(readableBytes);
+    }
+    
+    @Override
+    public void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out, final int readableBytes) {
+        databasePacketCodecEngine.decode(context, in, out, readableBytes);
+    }
+    
+    @Override
+    public void encode(final ChannelHandlerContext context, final T message, final ByteBuf out) {
+        int writerIndex = out.writerIndex();
+        long startNanos = ShardingMetrics.getInstance().startTiming();
+        databasePacketCodecEngine.encode(context, message, out);
+        ShardingMetrics.getInstance().finishTiming(MetricsStage.ENCODE, startNanos);
+        ShardingMetrics.getInstance().recordCount(MetricsCounter.WRITTEN_BYTES, out.writerIndex() - writerIndex);
+    }
+    
+    @Override
+    public PacketPayload createPacketPayload(final ByteBuf message) {
+        return databasePacketCodecEngine.createPacketPayload(message);
+    }
+}
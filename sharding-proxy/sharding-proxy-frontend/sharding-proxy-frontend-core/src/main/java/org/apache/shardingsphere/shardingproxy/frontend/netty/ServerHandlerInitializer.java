@@ -21,9 +21,13 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.DatabaseProtocolFrontendEngineFactory;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
 
 /**
@@ -35,11 +39,17 @@ import org.apache.shardingsphere.shardingproxy.transport.codec.PacketCodec;
 @RequiredArgsConstructor
 public final class ServerHandlerInitializer extends ChannelInitializer<SocketChannel> {
     
+    private static final ShardingProxyContext SHARDING_PROXY_CONTEXT = ShardingProxyContext.getInstance();
+    
+    @SuppressWarnings("unchecked")
     @Override
     protected void initChannel(final SocketChannel socketChannel) {
         DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine = DatabaseProtocolFrontendEngineFactory.newInstance(LogicSchemas.getInstance().getDatabaseType());
         ChannelPipeline pipeline = socketChannel.pipeline();
-        pipeline.addLast(new PacketCodec(databaseProtocolFrontendEngine.getCodecEngine()));
+        pipeline.addLast(new FrontendFlushHandler(SHARDING_PROXY_CONTEXT.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD),
+                SHARDING_PROXY_CONTEXT.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_DELAY_MILLISECONDS)));
+        DatabasePacketCodecEngine codecEngine = databaseProtocolFrontendEngine.getCodecEngine();
+        pipeline.addLast(new PacketCodec(ShardingMetrics.getInstance().isEnabled() ? new MetricsPacketCodecEngine(codecEngine) : codecEngine));
         pipeline.addLast(new FrontendChannelInboundHandler(databaseProtocolFrontendEngine));
     }
 }
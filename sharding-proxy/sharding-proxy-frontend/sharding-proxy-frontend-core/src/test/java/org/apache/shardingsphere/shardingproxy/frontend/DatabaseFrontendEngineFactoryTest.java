@@ -18,10 +18,24 @@
 package org.apache.shardingsphere.shardingproxy.frontend;
 
 import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.shardingproxy.frontend.fixture.DatabaseProtocolFrontendEngineFixture;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
 public final class DatabaseFrontendEngineFactoryTest {
     
+    @Test
+    public void assertNewInstance() {
+        assertThat(DatabaseProtocolFrontendEngineFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL")), instanceOf(DatabaseProtocolFrontendEngineFixture.class));
+    }
+    
+    @Test
+    public void assertNewInstanceWithBranchDatabaseType() {
+        assertThat(DatabaseProtocolFrontendEngineFactory.newInstance(DatabaseTypes.getActualDatabaseType("H2")), instanceOf(DatabaseProtocolFrontendEngineFixture.class));
+    }
+    
     @Test(expected = UnsupportedOperationException.class)
     public void assertNewInstanceWhenUnsupported() {
         DatabaseProtocolFrontendEngineFactory.newInstance(DatabaseTypes.getActualDatabaseType("Oracle"));
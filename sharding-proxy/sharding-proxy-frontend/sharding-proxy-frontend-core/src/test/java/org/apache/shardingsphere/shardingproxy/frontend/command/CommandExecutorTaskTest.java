@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.api.FlushCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.BatchCommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CommandExecutorTaskTest {
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private DatabasePacketCodecEngine codecEngine;
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private ByteBuf message;
+    
+    @Mock
+    private PacketPayload payload;
+    
+    @Mock
+    private CommandPacketType commandPacketType;
+    
+    @Mock
+    private CommandPacket commandPacket;
+    
+    @Mock
+    private DatabasePacket databasePacket;
+    
+    private final BackendConnection backendConnection = new BackendConnection(TransactionType.LOCAL);
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(databaseProtocolFrontendEngine.getCodecEngine()).thenReturn(codecEngine);
+        when(databaseProtocolFrontendEngine.getFrontendContext()).thenReturn(new FrontendContext(true, false));
+        when(codecEngine.createPacketPayload(message)).thenReturn(payload);
+    }
+    
+    private void setCommandExecuteEngine(final CommandExecuteEngine commandExecuteEngine) throws SQLException {
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        when(commandExecuteEngine.getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(commandExecuteEngine.getCommandPacket(payload, commandPacketType, backendConnection)).thenReturn(commandPacket);
+    }
+    
+    @Test
+    public void assertRunWithFlushCommandExecutor() throws SQLException {
+        setCommandExecuteEngine(commandExecuteEngine);
+        CommandExecutor commandExecutor = mock(FlushCommandExecutor.class);
+        when(commandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(commandExecuteEngine.getCommandExecutor(commandPacketType, commandPacket, backendConnection)).thenReturn(commandExecutor);
+        new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message).run();
+        InOrder inOrder = inOrder(context);
+        inOrder.verify(context).write(databasePacket);
+        inOrder.verify(context).flush();
+    }
+    
+    @Test
+    public void assertRunWithoutFlushPerCommandPacket() throws SQLException {
+        setCommandExecuteEngine(commandExecuteEngine);
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        when(commandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(commandExecuteEngine.getCommandExecutor(commandPacketType, commandPacket, backendConnection)).thenReturn(commandExecutor);
+        new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, message).run();
+        verify(context).write(databasePacket);
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    public void assertRunWithBatchCommandExecuteEngine() throws SQLException {
+        BatchCommandExecuteEngine batchCommandExecuteEngine = mock(BatchCommandExecuteEngine.class);
+        setCommandExecuteEngine(batchCommandExecuteEngine);
+        when(batchCommandExecuteEngine.isBatchable(commandPacketType, commandPacket, backendConnection)).thenReturn(true);
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        when(commandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(batchCommandExecuteEngine.getBatchCommandExecutor(commandPacketType, Arrays.asList(commandPacket, commandPacket), backendConnection)).thenReturn(commandExecutor);
+        new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, Arrays.<Object>asList(message, message)).run();
+        verify(context).write(databasePacket);
+        verify(batchCommandExecuteEngine, never()).getCommandExecutor(commandPacketType, commandPacket, backendConnection);
+    }
+}
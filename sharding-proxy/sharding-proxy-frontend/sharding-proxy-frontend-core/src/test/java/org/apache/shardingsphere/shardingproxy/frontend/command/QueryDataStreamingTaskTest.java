@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWritingProgress;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataStreamingTaskTest {
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelConfig channelConfig;
+    
+    @Mock
+    private QueryCommandExecutor queryCommandExecutor;
+    
+    private final QueryDataWritingProgress progress = new QueryDataWritingProgress(3);
+    
+    private QueryDataStreamingTask streamingTask;
+    
+    @Before
+    public void setUp() {
+        final DefaultAttributeMap attributeMap = new DefaultAttributeMap();
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        when(context.channel()).thenReturn(channel);
+        when(channel.config()).thenReturn(channelConfig);
+        when(channel.attr(any(AttributeKey.class))).thenAnswer(new Answer<Object>() {
+            
+            @SuppressWarnings("unchecked")
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return attributeMap.attr((AttributeKey<Object>) invocation.getArgument(0));
+            }
+        });
+        streamingTask = new QueryDataStreamingTask(databaseProtocolFrontendEngine, backendConnection, context, queryCommandExecutor, progress);
+    }
+    
+    @Test
+    public void assertStreamCompleted() throws SQLException {
+        when(commandExecuteEngine.writeQueryData(context, queryCommandExecutor, progress)).thenReturn(true);
+        assertTrue(streamingTask.stream());
+        assertFalse(QueryDataStreamingTask.takeSuspendedTask(channel).isPresent());
+        verify(context).flush();
+        verify(backendConnection).close();
+    }
+    
+    @Test
+    public void assertStreamSuspendedAndResumed() throws SQLException {
+        when(commandExecuteEngine.writeQueryData(context, queryCommandExecutor, progress)).thenReturn(false, true);
+        assertFalse(streamingTask.stream());
+        verify(channelConfig).setAutoRead(false);
+        verify(backendConnection, never()).close();
+        assertTrue(QueryDataStreamingTask.takeSuspendedTask(channel).isPresent());
+        streamingTask.run();
+        verify(channelConfig).setAutoRead(true);
+        verify(backendConnection).close();
+    }
+    
+    @Test
+    public void assertNextTaskRunAfterResumedStreamCompleted() throws SQLException {
+        Runnable nextTask = mock(Runnable.class);
+        streamingTask.setNextTask(nextTask);
+        when(commandExecuteEngine.writeQueryData(context, queryCommandExecutor, progress)).thenReturn(false, true);
+        assertFalse(streamingTask.stream());
+        verify(nextTask, never()).run();
+        streamingTask.run();
+        verify(nextTask).run();
+    }
+    
+    @Test
+    public void assertReleaseMessagesOfNextTask() {
+        ByteBuf message = Unpooled.buffer();
+        streamingTask.setNextTask(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, Collections.<Object>singletonList(message)));
+        streamingTask.release();
+        assertThat(message.refCnt(), is(0));
+    }
+    
+    @Test
+    public void assertStreamContinuedWhenChannelBecomesWritableBeforeSuspended() throws SQLException {
+        when(commandExecuteEngine.writeQueryData(context, queryCommandExecutor, progress)).thenReturn(false, true);
+        when(channel.isWritable()).thenReturn(true);
+        assertTrue(streamingTask.stream());
+        assertFalse(QueryDataStreamingTask.takeSuspendedTask(channel).isPresent());
+        verify(backendConnection).close();
+    }
+}
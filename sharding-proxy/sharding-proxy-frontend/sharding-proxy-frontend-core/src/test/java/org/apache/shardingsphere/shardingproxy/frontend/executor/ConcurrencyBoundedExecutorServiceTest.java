@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ConcurrencyBoundedExecutorServiceTest {
+    
+    @Test
+    public void assertExecuteWithinMaxConcurrency() throws InterruptedException {
+        ConcurrencyBoundedExecutorService executorService = new ConcurrencyBoundedExecutorService(Executors.newCachedThreadPool(), 1);
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch firstReleased = new CountDownLatch(1);
+        final CountDownLatch secondFinished = new CountDownLatch(1);
+        final AtomicInteger executedCount = new AtomicInteger();
+        executorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                firstStarted.countDown();
+                try {
+                    firstReleased.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                executedCount.incrementAndGet();
+            }
+        });
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        executorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                executedCount.incrementAndGet();
+                secondFinished.countDown();
+            }
+        });
+        assertFalse(secondFinished.await(100, TimeUnit.MILLISECONDS));
+        assertThat(executedCount.get(), is(0));
+        firstReleased.countDown();
+        assertTrue(secondFinished.await(5, TimeUnit.SECONDS));
+        assertThat(executedCount.get(), is(2));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.shardingproxy.frontend.fixture;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.AuthenticationEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
+
+public final class DatabaseProtocolFrontendEngineFixture implements DatabaseProtocolFrontendEngine {
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+    
+    @Override
+    public FrontendContext getFrontendContext() {
+        return null;
+    }
+    
+    @Override
+    public DatabasePacketCodecEngine getCodecEngine() {
+        return null;
+    }
+    
+    @Override
+    public AuthenticationEngine getAuthEngine() {
+        return null;
+    }
+    
+    @Override
+    public CommandExecuteEngine getCommandExecuteEngine() {
+        return null;
+    }
+    
+    @Override
+    public void release(final BackendConnection backendConnection) {
+    }
+}
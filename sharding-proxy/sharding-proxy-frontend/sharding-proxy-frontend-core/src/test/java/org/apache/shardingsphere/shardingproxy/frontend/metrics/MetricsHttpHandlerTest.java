@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.metrics;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.CharsetUtil;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MetricsHttpHandlerTest {
+    
+    @Test
+    public void assertGetMetrics() {
+        FullHttpResponse actual = request("/metrics");
+        assertThat(actual.status(), is(HttpResponseStatus.OK));
+        String content = actual.content().toString(CharsetUtil.UTF_8);
+        assertTrue(content.contains("shardingsphere_stage_latency_seconds_count{stage=\"parse\"}"));
+        assertTrue(content.contains("shardingsphere_proxy_flush_total"));
+        actual.release();
+    }
+    
+    @Test
+    public void assertGetUnknownPath() {
+        FullHttpResponse actual = request("/unknown");
+        assertThat(actual.status(), is(HttpResponseStatus.NOT_FOUND));
+        actual.release();
+    }
+    
+    private FullHttpResponse request(final String uri) {
+        EmbeddedChannel channel = new EmbeddedChannel(new MetricsHttpHandler());
+        channel.writeInbound(new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri));
+        FullHttpResponse result = channel.readOutbound();
+        channel.finishAndReleaseAll();
+        return result;
+    }
+}
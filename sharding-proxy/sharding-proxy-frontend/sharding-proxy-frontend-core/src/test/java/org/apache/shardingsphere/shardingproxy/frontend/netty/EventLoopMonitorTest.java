@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class EventLoopMonitorTest {
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(2);
+    
+    @After
+    public void tearDown() {
+        EventLoopMonitor.getInstance().stop();
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    @Test
+    public void assertGetMetrics() {
+        EventLoopMonitor.getInstance().start("Worker", eventLoopGroup);
+        List<EventLoopMetrics> actual = EventLoopMonitor.getInstance().getMetrics();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getName(), is("Worker-0"));
+        assertThat(actual.get(1).getName(), is("Worker-1"));
+        assertThat(actual.get(0).getPendingTasks(), is(0));
+    }
+    
+    @Test
+    public void assertStop() {
+        EventLoopMonitor.getInstance().start("Worker", eventLoopGroup);
+        EventLoopMonitor.getInstance().stop();
+        assertTrue(EventLoopMonitor.getInstance().getMetrics().isEmpty());
+    }
+}
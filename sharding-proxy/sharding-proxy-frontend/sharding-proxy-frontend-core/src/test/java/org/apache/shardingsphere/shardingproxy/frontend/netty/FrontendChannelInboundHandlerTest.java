@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelId;
+import io.netty.util.AttributeKey;
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.shardingproxy.frontend.command.QueryDataStreamingTask;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.AuthenticationEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWritingProgress;
+import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class FrontendChannelInboundHandlerTest {
+    
+    @Mock
+    private DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
+    
+    @Mock
+    private AuthenticationEngine authEngine;
+    
+    @Mock
+    private DatabasePacketCodecEngine codecEngine;
+    
+    @Mock
+    private CommandExecuteEngine commandExecuteEngine;
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private ChannelConfig channelConfig;
+    
+    @Mock
+    private ChannelId channelId;
+    
+    @Mock
+    private ByteBuf authMessage;
+    
+    private FrontendChannelInboundHandler frontendChannelInboundHandler;
+    
+    @Before
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PROXY_FRONTEND_PIPELINED_BATCH_ENABLED.getKey(), Boolean.TRUE.toString());
+        ShardingProxyContext.getInstance().init(null, props);
+        final DefaultAttributeMap attributeMap = new DefaultAttributeMap();
+        when(context.channel()).thenReturn(channel);
+        when(channel.id()).thenReturn(channelId);
+        when(channel.attr(any(AttributeKey.class))).thenAnswer(new Answer<Object>() {
+            
+            @SuppressWarnings("unchecked")
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return attributeMap.attr((AttributeKey<Object>) invocation.getArgument(0));
+            }
+        });
+        when(databaseProtocolFrontendEngine.getAuthEngine()).thenReturn(authEngine);
+        when(databaseProtocolFrontendEngine.getCodecEngine()).thenReturn(codecEngine);
+        PacketPayload authPayload = mock(PacketPayload.class);
+        when(codecEngine.createPacketPayload(authMessage)).thenReturn(authPayload);
+        when(authEngine.auth(any(ChannelHandlerContext.class), any(PacketPayload.class), any(BackendConnection.class))).thenReturn(true);
+        frontendChannelInboundHandler = new FrontendChannelInboundHandler(databaseProtocolFrontendEngine);
+        frontendChannelInboundHandler.channelActive(context);
+        frontendChannelInboundHandler.channelRead(context, authMessage);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingProxyContext.getInstance().init(null, new Properties());
+    }
+    
+    @Test
+    public void assertChannelInactiveReleasePipelinedMessages() {
+        ByteBuf message = Unpooled.buffer();
+        frontendChannelInboundHandler.channelRead(context, message);
+        frontendChannelInboundHandler.channelInactive(context);
+        assertThat(message.refCnt(), is(0));
+    }
+    
+    @Test
+    public void assertChannelInactiveReleaseMessagesOfSuspendedTask() throws SQLException {
+        QueryCommandExecutor queryCommandExecutor = mock(QueryCommandExecutor.class);
+        QueryDataWritingProgress progress = new QueryDataWritingProgress(0);
+        when(databaseProtocolFrontendEngine.getCommandExecuteEngine()).thenReturn(commandExecuteEngine);
+        when(commandExecuteEngine.writeQueryData(context, queryCommandExecutor, progress)).thenReturn(false);
+        when(channel.config()).thenReturn(channelConfig);
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        QueryDataStreamingTask streamingTask = new QueryDataStreamingTask(databaseProtocolFrontendEngine, backendConnection, context, queryCommandExecutor, progress);
+        ByteBuf message = Unpooled.buffer();
+        streamingTask.setNextTask(new CommandExecutorTask(databaseProtocolFrontendEngine, backendConnection, context, Collections.<Object>singletonList(message)));
+        assertFalse(streamingTask.stream());
+        frontendChannelInboundHandler.channelInactive(context);
+        assertThat(message.refCnt(), is(0));
+        assertFalse(QueryDataStreamingTask.takeSuspendedTask(channel).isPresent());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class FrontendFlushHandlerTest {
+    
+    @Test
+    public void assertFlushDeferredUntilQueuedWritesFinished() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrontendFlushHandler(16, 0));
+        channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[4]));
+        assertNull(channel.readOutbound());
+        channel.runPendingTasks();
+        assertThat(channel.outboundMessages().size(), is(1));
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertFlushesConsolidated() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrontendFlushHandler(16, 0));
+        long flushCount = FrontendFlushStatistics.getInstance().getFlushCount();
+        channel.pipeline().write(Unpooled.wrappedBuffer(new byte[4]));
+        channel.pipeline().flush();
+        channel.pipeline().flush();
+        channel.runPendingTasks();
+        assertThat(FrontendFlushStatistics.getInstance().getFlushCount(), is(flushCount + 1));
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertFlushImmediatelyWhenBytesReachThreshold() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrontendFlushHandler(16, 0));
+        channel.pipeline().write(Unpooled.wrappedBuffer(new byte[8]));
+        assertNull(channel.readOutbound());
+        channel.pipeline().write(Unpooled.wrappedBuffer(new byte[8]));
+        assertThat(channel.outboundMessages().size(), is(2));
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertFlushWithoutPendingBytes() {
+        EmbeddedChannel channel = new EmbeddedChannel(new FrontendFlushHandler(16, 0));
+        long flushCount = FrontendFlushStatistics.getInstance().getFlushCount();
+        channel.pipeline().flush();
+        channel.runPendingTasks();
+        assertThat(FrontendFlushStatistics.getInstance().getFlushCount(), is(flushCount));
+        channel.finishAndReleaseAll();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.core.metrics.MetricsCounter;
+import org.apache.shardingsphere.core.metrics.MetricsSnapshot;
+import org.apache.shardingsphere.core.metrics.MetricsStage;
+import org.apache.shardingsphere.core.metrics.ShardingMetrics;
+import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class MetricsPacketCodecEngineTest {
+    
+    @Before
+    public void setUp() {
+        ShardingMetrics.getInstance().setEnabled(true);
+    }
+    
+    @After
+    public void tearDown() {
+        ShardingMetrics.getInstance().setEnabled(false);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertEncode() {
+        DatabasePacketCodecEngine<DatabasePacket> codecEngine = mock(DatabasePacketCodecEngine.class);
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                ((ByteBuf) invocation.getArguments()[2]).writeBytes(new byte[10]);
+                return null;
+            }
+        }).when(codecEngine).encode(any(ChannelHandlerContext.class), any(DatabasePacket.class), any(ByteBuf.class));
+        ByteBuf out = Unpooled.buffer();
+        out.writeBytes(new byte[5]);
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        DatabasePacket packet = mock(DatabasePacket.class);
+        MetricsSnapshot previous = ShardingMetrics.getInstance().getSnapshot();
+        new MetricsPacketCodecEngine<>(codecEngine).encode(context, packet, out);
+        MetricsSnapshot actual = ShardingMetrics.getInstance().getSnapshot().minus(previous);
+        verify(codecEngine).encode(context, packet, out);
+        assertThat(actual.getLatencies().get(MetricsStage.ENCODE).getTotalCount(), is(1L));
+        assertThat(actual.getCounters().get(MetricsCounter.WRITTEN_BYTES), is(10L));
+    }
+}
@@ -18,17 +18,19 @@
 package org.apache.shardingsphere.shardingproxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.backend.text.query.BatchUpdateBackendHandler;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
-import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.BatchCommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWritingProgress;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query.MySQLComQueryBatchExecutor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketFactory;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.MySQLCommandPacketTypeLoader;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
@@ -37,13 +39,15 @@ import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Command execute engine for MySQL.
  *
  * @author zhangliang
  */
-public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
+public final class MySQLCommandExecuteEngine implements BatchCommandExecuteEngine {
     
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
@@ -52,7 +56,7 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
     public MySQLCommandPacket getCommandPacket(final PacketPayload payload, final CommandPacketType type, final BackendConnection backendConnection) throws SQLException {
-        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload);
+        return MySQLCommandPacketFactory.newInstance((MySQLCommandPacketType) type, (MySQLPacketPayload) payload, backendConnection.getConnectionId());
     }
     
     @Override
@@ -60,34 +64,45 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         return MySQLCommandExecutorFactory.newInstance((MySQLCommandPacketType) type, packet, backendConnection);
     }
     
+    @Override
+    public boolean isBatchable(final CommandPacketType type, final CommandPacket packet, final BackendConnection backendConnection) {
+        return MySQLCommandPacketType.COM_QUERY == type && BatchUpdateBackendHandler.isBatchable(((MySQLComQueryPacket) packet).getSql(), backendConnection);
+    }
+    
+    @Override
+    public CommandExecutor getBatchCommandExecutor(final CommandPacketType type, final List<CommandPacket> packets, final BackendConnection backendConnection) {
+        List<String> sqls = new ArrayList<>(packets.size());
+        for (CommandPacket each : packets) {
+            sqls.add(((MySQLComQueryPacket) each).getSql());
+        }
+        return new MySQLComQueryBatchExecutor(sqls, backendConnection);
+    }
+    
+    @Override
+    public boolean isBackendConnectionHeld(final BackendConnection backendConnection) {
+        return false;
+    }
+    
     @Override
     public DatabasePacket getErrorPacket(final Exception cause) {
         return MySQLErrPacketFactory.newInstance(1, cause);
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public boolean writeQueryData(final ChannelHandlerContext context, final QueryCommandExecutor queryCommandExecutor, final QueryDataWritingProgress progress) throws SQLException {
         if (!queryCommandExecutor.isQuery() || !context.channel().isActive()) {
-            return;
+            return true;
         }
-        int count = 0;
-        int flushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        int currentSequenceId = 0;
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
+        while (context.channel().isWritable() || !context.channel().isActive()) {
+            if (!queryCommandExecutor.next()) {
+                context.write(new MySQLEofPacket(progress.getHeaderPackagesCount() + progress.getDataPackagesCount() + 1));
+                return true;
             }
             DatabasePacket dataValue = queryCommandExecutor.getQueryData();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
-            currentSequenceId++;
+            context.writeAndFlush(dataValue);
+            progress.increaseDataPackagesCount();
         }
-        context.write(new MySQLEofPacket(++currentSequenceId + headerPackagesCount));
+        context.flush();
+        return false;
     }
 }
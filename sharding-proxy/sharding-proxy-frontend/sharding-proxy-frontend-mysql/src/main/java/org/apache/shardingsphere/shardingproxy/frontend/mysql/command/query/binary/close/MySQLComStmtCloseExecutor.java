@@ -37,8 +37,7 @@ public final class MySQLComStmtCloseExecutor implements CommandExecutor {
     
     @Override
     public Collection<DatabasePacket> execute() {
-        //TODO we need to design the cache in future.
-//        packet.removeCachedStatement();
+        packet.removeCachedStatement();
         return Collections.emptyList();
     }
 }
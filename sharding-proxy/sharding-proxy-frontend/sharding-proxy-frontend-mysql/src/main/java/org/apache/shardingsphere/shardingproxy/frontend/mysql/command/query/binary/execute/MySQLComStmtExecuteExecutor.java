@@ -62,6 +62,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private int currentSequenceId;
     
+    private List<MySQLColumnType> mysqlColumnTypes;
+    
     public MySQLComStmtExecuteExecutor(final MySQLComStmtExecutePacket comStmtExecutePacket, final BackendConnection backendConnection) {
         databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
                 backendConnection.getLogicSchema(), comStmtExecutePacket.getSql(), comStmtExecutePacket.getParameters(), backendConnection);
@@ -116,7 +118,10 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Override
     public MySQLPacket getQueryData() throws SQLException {
         QueryData queryData = databaseCommunicationEngine.getQueryData();
-        return new MySQLBinaryResultSetRowPacket(++currentSequenceId, queryData.getData(), getMySQLColumnTypes(queryData));
+        if (null == mysqlColumnTypes) {
+            mysqlColumnTypes = getMySQLColumnTypes(queryData);
+        }
+        return new MySQLBinaryResultSetRowPacket(++currentSequenceId, queryData.getData(), mysqlColumnTypes);
     }
     
     private List<MySQLColumnType> getMySQLColumnTypes(final QueryData queryData) {
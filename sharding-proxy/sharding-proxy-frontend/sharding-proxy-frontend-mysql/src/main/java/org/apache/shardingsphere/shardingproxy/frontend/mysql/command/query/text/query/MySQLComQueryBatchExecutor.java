@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.mysql.command.query.text.query;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.text.query.BatchUpdateBackendHandler;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.shardingproxy.error.CommonErrorCode;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLErrPacketFactory;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * COM_QUERY command packets batch executor for MySQL.
+ *
+ * <p>Each COM_QUERY command packet is responded by an OK or ERR packet in the order of packets.</p>
+ *
+ * @author zhangliang
+ */
+public final class MySQLComQueryBatchExecutor implements CommandExecutor {
+    
+    private final List<String> sqls;
+    
+    private final BatchUpdateBackendHandler batchUpdateBackendHandler;
+    
+    public MySQLComQueryBatchExecutor(final List<String> sqls, final BackendConnection backendConnection) {
+        this.sqls = sqls;
+        batchUpdateBackendHandler = new BatchUpdateBackendHandler(sqls, backendConnection);
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        Collection<DatabasePacket> result = new LinkedList<>();
+        if (ShardingProxyContext.getInstance().isCircuitBreak()) {
+            for (int i = 0; i < sqls.size(); i++) {
+                result.add(new MySQLErrPacket(1, CommonErrorCode.CIRCUIT_BREAK_MODE));
+            }
+            return result;
+        }
+        for (BackendResponse each : batchUpdateBackendHandler.execute()) {
+            result.add(each instanceof ErrorResponse ? MySQLErrPacketFactory.newInstance(1, ((ErrorResponse) each).getCause()) : createUpdatePacket((UpdateResponse) each));
+        }
+        return result;
+    }
+    
+    private MySQLOKPacket createUpdatePacket(final UpdateResponse updateResponse) {
+        return new MySQLOKPacket(1, updateResponse.getUpdateCount(), updateResponse.getLastInsertId());
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.auth.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.codec.PostgreSQLPacketCodecEngine;
@@ -52,5 +53,6 @@ public final class PostgreSQLProtocolFrontendEngine implements DatabaseProtocolF
     @Override
     public void release(final BackendConnection backendConnection) {
         BinaryStatementRegistry.getInstance().unregister(backendConnection.getConnectionId());
+        PostgreSQLPortalRegistry.getInstance().unregister(backendConnection.getConnectionId());
     }
 }
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command;
 
 import io.netty.channel.ChannelHandlerContext;
-import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.frontend.engine.QueryDataWritingProgress;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.ConnectionScopePortalRegistry;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.execute.PostgreSQLComExecuteExecutor;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
@@ -32,6 +34,7 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.comma
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketTypeLoader;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.execute.PostgreSQLPortalSuspendedPacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
@@ -61,33 +64,43 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         return PostgreSQLCommandExecutorFactory.newInstance((PostgreSQLCommandPacketType) type, (PostgreSQLCommandPacket) packet, backendConnection);
     }
     
+    @Override
+    public boolean isBackendConnectionHeld(final BackendConnection backendConnection) {
+        ConnectionScopePortalRegistry portalRegistry = PostgreSQLPortalRegistry.getInstance().get(backendConnection.getConnectionId());
+        return null != portalRegistry && portalRegistry.hasOpenPortal();
+    }
+    
     @Override
     public DatabasePacket getErrorPacket(final Exception cause) {
         return new PostgreSQLErrorResponsePacket();
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+    public boolean writeQueryData(final ChannelHandlerContext context, final QueryCommandExecutor queryCommandExecutor, final QueryDataWritingProgress progress) throws SQLException {
+        if (queryCommandExecutor instanceof PostgreSQLComExecuteExecutor && !queryCommandExecutor.isQuery()) {
+            return true;
+        }
         if (queryCommandExecutor.isQuery() && !context.channel().isActive()) {
-            context.write(new PostgreSQLCommandCompletePacket());
-            context.write(new PostgreSQLReadyForQueryPacket());
-            return;
+            writeCompletionPackets(context, queryCommandExecutor);
+            return true;
         }
-        int count = 0;
-        int proxyFrontendFlushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
+        while (context.channel().isWritable() || !context.channel().isActive()) {
+            if (!queryCommandExecutor.next()) {
+                writeCompletionPackets(context, queryCommandExecutor);
+                return true;
             }
             DatabasePacket resultValue = queryCommandExecutor.getQueryData();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
+            context.writeAndFlush(resultValue);
+            progress.increaseDataPackagesCount();
+        }
+        context.flush();
+        return false;
+    }
+    
+    private void writeCompletionPackets(final ChannelHandlerContext context, final QueryCommandExecutor queryCommandExecutor) {
+        if (queryCommandExecutor instanceof PostgreSQLComExecuteExecutor) {
+            context.write(((PostgreSQLComExecuteExecutor) queryCommandExecutor).isSuspended() ? new PostgreSQLPortalSuspendedPacket() : new PostgreSQLCommandCompletePacket());
+            return;
         }
         context.write(new PostgreSQLCommandCompletePacket());
         context.write(new PostgreSQLReadyForQueryPacket());
@@ -33,6 +33,8 @@ import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.text.PostgreSQLComQueryPacket;
 
@@ -63,11 +65,11 @@ public final class PostgreSQLCommandExecutorFactory {
             case BIND:
                 return new PostgreSQLComBindExecutor((PostgreSQLComBindPacket) commandPacket, backendConnection);
             case DESCRIBE:
-                return new PostgreSQLComDescribeExecutor();
+                return new PostgreSQLComDescribeExecutor((PostgreSQLComDescribePacket) commandPacket, backendConnection);
             case EXECUTE:
-                return new PostgreSQLComExecuteExecutor();
+                return new PostgreSQLComExecuteExecutor((PostgreSQLComExecutePacket) commandPacket, backendConnection);
             case SYNC:
-                return new PostgreSQLComSyncExecutor();
+                return new PostgreSQLComSyncExecutor(backendConnection);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
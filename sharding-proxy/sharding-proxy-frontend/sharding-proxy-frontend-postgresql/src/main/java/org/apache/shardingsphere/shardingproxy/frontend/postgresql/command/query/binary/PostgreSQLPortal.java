@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
+import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.constant.PostgreSQLColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.PostgreSQLColumnDescription;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Portal for PostgreSQL.
+ *
+ * <p>
+ * Portal holds backend response of bound statement, query data are fetched by execute commands.
+ * Merged result of query is kept open between execute commands, so that query data can be fetched in chunks.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLPortal {
+    
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private final BackendResponse backendResponse;
+    
+    private final boolean binaryRowData;
+    
+    /**
+     * Judge is query or not.
+     *
+     * @return is query or not
+     */
+    public boolean isQuery() {
+        return backendResponse instanceof QueryResponse && !((QueryResponse) backendResponse).getQueryHeaders().isEmpty();
+    }
+    
+    /**
+     * Get row description.
+     *
+     * @return row description
+     */
+    public Optional<PostgreSQLRowDescriptionPacket> getRowDescription() {
+        if (!isQuery() || binaryRowData) {
+            return Optional.absent();
+        }
+        List<PostgreSQLColumnDescription> columnDescriptions = new LinkedList<>();
+        int columnIndex = 0;
+        for (QueryHeader each : ((QueryResponse) backendResponse).getQueryHeaders()) {
+            columnDescriptions.add(new PostgreSQLColumnDescription(each.getColumnName(), ++columnIndex, each.getColumnType(), each.getColumnLength()));
+        }
+        return Optional.of(new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions));
+    }
+    
+    /**
+     * Goto next query data.
+     *
+     * @return has next query data or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        return null != databaseCommunicationEngine && databaseCommunicationEngine.next();
+    }
+    
+    /**
+     * Get query data.
+     *
+     * @return query data packet
+     * @throws SQLException SQL exception
+     */
+    public PostgreSQLPacket getQueryData() throws SQLException {
+        QueryData queryData = databaseCommunicationEngine.getQueryData();
+        return binaryRowData ? new PostgreSQLBinaryResultSetRowPacket(queryData.getData(), getPostgreSQLColumnTypes(queryData)) : new PostgreSQLDataRowPacket(queryData.getData());
+    }
+    
+    /**
+     * Close portal.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void close() throws SQLException {
+        if (null != databaseCommunicationEngine) {
+            databaseCommunicationEngine.close();
+        }
+    }
+    
+    private List<PostgreSQLColumnType> getPostgreSQLColumnTypes(final QueryData queryData) {
+        List<PostgreSQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
+        for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
+            result.add(PostgreSQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Portal registry for PostgreSQL.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLPortalRegistry {
+    
+    private static final PostgreSQLPortalRegistry INSTANCE = new PostgreSQLPortalRegistry();
+    
+    private final ConcurrentMap<Integer, ConnectionScopePortalRegistry> registries = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of portal registry.
+     *
+     * @return instance of portal registry
+     */
+    public static PostgreSQLPortalRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register.
+     *
+     * @param connectionId connection id
+     */
+    public void register(final int connectionId) {
+        registries.put(connectionId, new ConnectionScopePortalRegistry());
+    }
+    
+    /**
+     * Unregister.
+     *
+     * @param connectionId connection id
+     */
+    public void unregister(final int connectionId) {
+        registries.remove(connectionId);
+    }
+    
+    /**
+     * Get connection scope portal registry.
+     *
+     * @param connectionId connection id
+     * @return connection scope portal registry
+     */
+    public ConnectionScopePortalRegistry get(final int connectionId) {
+        return registries.get(connectionId);
+    }
+}
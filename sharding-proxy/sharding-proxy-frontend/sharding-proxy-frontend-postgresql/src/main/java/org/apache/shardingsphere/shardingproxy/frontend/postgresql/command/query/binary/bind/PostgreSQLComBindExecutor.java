@@ -17,130 +17,61 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.bind;
 
-import com.google.common.base.Optional;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
-import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
-import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
-import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
-import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.ConnectionScopePortalRegistry;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
-import org.apache.shardingsphere.shardingproxy.transport.postgresql.constant.PostgreSQLColumnType;
-import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.PostgreSQLPacket;
-import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.PostgreSQLColumnDescription;
-import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
-import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.PostgreSQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.PostgreSQLBindCompletePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.bind.PostgreSQLComBindPacket;
-import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.text.PostgreSQLDataRowPacket;
-import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Command bind executor for PostgreSQL.
  *
+ * <p>Bound statement is executed and registered as portal, query data of portal are fetched by execute commands.</p>
+ *
  * @author zhangyonglun
  * @author zhangliang
  */
-public final class PostgreSQLComBindExecutor implements QueryCommandExecutor {
+public final class PostgreSQLComBindExecutor implements CommandExecutor {
     
     private final PostgreSQLComBindPacket packet;
-            
-    private final DatabaseCommunicationEngine databaseCommunicationEngine;
     
-    private volatile boolean isQuery;
+    private final ConnectionScopePortalRegistry portalRegistry;
+    
+    private final DatabaseCommunicationEngine databaseCommunicationEngine;
     
     public PostgreSQLComBindExecutor(final PostgreSQLComBindPacket packet, final BackendConnection backendConnection) {
         this.packet = packet;
+        portalRegistry = PostgreSQLPortalRegistry.getInstance().get(backendConnection.getConnectionId());
         databaseCommunicationEngine = null == packet.getSql()
                 ? null : DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(backendConnection.getLogicSchema(), packet.getSql(), packet.getParameters(), backendConnection);
     }
     
     @Override
-    public Collection<DatabasePacket> execute() {
+    public Collection<DatabasePacket> execute() throws SQLException {
         if (ShardingProxyContext.getInstance().isCircuitBreak()) {
             return Collections.<DatabasePacket>singletonList(new PostgreSQLErrorResponsePacket());
         }
-        List<DatabasePacket> result = new LinkedList<>();
-        result.add(new PostgreSQLBindCompletePacket());
-        if (null == databaseCommunicationEngine) {
-            return result;
-        }
-        BackendResponse backendResponse = databaseCommunicationEngine.execute();
+        BackendResponse backendResponse = null == databaseCommunicationEngine ? new UpdateResponse() : databaseCommunicationEngine.execute();
         if (backendResponse instanceof ErrorResponse) {
-            result.add(createErrorPacket((ErrorResponse) backendResponse));
-        }
-        if (backendResponse instanceof UpdateResponse) {
-            result.add(createUpdatePacket((UpdateResponse) backendResponse));
-        }
-        if (backendResponse instanceof QueryResponse) {
-            Optional<PostgreSQLRowDescriptionPacket> postgreSQLRowDescriptionPacket = createQueryPacket((QueryResponse) backendResponse);
-            if (postgreSQLRowDescriptionPacket.isPresent()) {
-                result.add(postgreSQLRowDescriptionPacket.get());
-            }
-        }
-        return result;
-    }
-    
-    private PostgreSQLErrorResponsePacket createErrorPacket(final ErrorResponse errorResponse) {
-        return new PostgreSQLErrorResponsePacket();
-    }
-    
-    private PostgreSQLCommandCompletePacket createUpdatePacket(final UpdateResponse updateResponse) {
-        return new PostgreSQLCommandCompletePacket();
-    }
-    
-    private Optional<PostgreSQLRowDescriptionPacket> createQueryPacket(final QueryResponse queryResponse) {
-        List<PostgreSQLColumnDescription> columnDescriptions = getPostgreSQLColumnDescriptions(queryResponse);
-        isQuery = !columnDescriptions.isEmpty();
-        if (columnDescriptions.isEmpty() || packet.isBinaryRowData()) {
-            return Optional.absent();
-        }
-        return Optional.of(new PostgreSQLRowDescriptionPacket(columnDescriptions.size(), columnDescriptions));
-    }
-    
-    private List<PostgreSQLColumnDescription> getPostgreSQLColumnDescriptions(final QueryResponse queryResponse) {
-        List<PostgreSQLColumnDescription> result = new LinkedList<>();
-        int columnIndex = 0;
-        for (QueryHeader each : queryResponse.getQueryHeaders()) {
-            result.add(new PostgreSQLColumnDescription(each.getColumnName(), ++columnIndex, each.getColumnType(), each.getColumnLength()));
-        }
-        return result;
-    }
-    
-    @Override
-    public boolean isQuery() {
-        return isQuery;
-    }
-    
-    @Override
-    public boolean next() throws SQLException {
-        return null != databaseCommunicationEngine && databaseCommunicationEngine.next();
-    }
-    
-    @Override
-    public PostgreSQLPacket getQueryData() throws SQLException {
-        QueryData queryData = databaseCommunicationEngine.getQueryData();
-        return packet.isBinaryRowData() ? new PostgreSQLBinaryResultSetRowPacket(queryData.getData(), getPostgreSQLColumnTypes(queryData)) : new PostgreSQLDataRowPacket(queryData.getData());
-    }
-    
-    private List<PostgreSQLColumnType> getPostgreSQLColumnTypes(final QueryData queryData) {
-        List<PostgreSQLColumnType> result = new ArrayList<>(queryData.getColumnTypes().size());
-        for (int i = 0; i < queryData.getColumnTypes().size(); i++) {
-            result.add(PostgreSQLColumnType.valueOfJDBCType(queryData.getColumnTypes().get(i)));
+            portalRegistry.close(packet.getPortal());
+            databaseCommunicationEngine.close();
+            return Collections.<DatabasePacket>singletonList(new PostgreSQLErrorResponsePacket());
         }
-        return result;
+        portalRegistry.register(packet.getPortal(), new PostgreSQLPortal(databaseCommunicationEngine, backendResponse, packet.isBinaryRowData()));
+        return Collections.<DatabasePacket>singletonList(new PostgreSQLBindCompletePacket());
     }
 }
@@ -17,8 +17,17 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.describe;
 
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.ConnectionScopePortalRegistry;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.PostgreSQLRowDescriptionPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.describe.PostgreSQLNoDataPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -26,13 +35,35 @@ import java.util.Collections;
 /**
  * Command describe for PostgreSQL.
  *
+ * <p>Only portal is described, describing prepared statement is not supported yet.</p>
+ *
  * @author zhangyonglun
  * @author zhangliang
  */
 public final class PostgreSQLComDescribeExecutor implements CommandExecutor {
     
+    private final PostgreSQLComDescribePacket packet;
+    
+    private final ConnectionScopePortalRegistry portalRegistry;
+    
+    public PostgreSQLComDescribeExecutor(final PostgreSQLComDescribePacket packet, final BackendConnection backendConnection) {
+        this.packet = packet;
+        portalRegistry = PostgreSQLPortalRegistry.getInstance().get(backendConnection.getConnectionId());
+    }
+    
     @Override
     public Collection<DatabasePacket> execute() {
-        return Collections.emptyList();
+        if (!packet.isPortal()) {
+            return Collections.emptyList();
+        }
+        PostgreSQLPortal portal = portalRegistry.getPortal(packet.getName());
+        if (null == portal) {
+            return Collections.<DatabasePacket>singletonList(new PostgreSQLErrorResponsePacket());
+        }
+        if (!portal.isQuery()) {
+            return Collections.<DatabasePacket>singletonList(new PostgreSQLNoDataPacket());
+        }
+        Optional<PostgreSQLRowDescriptionPacket> rowDescription = portal.getRowDescription();
+        return rowDescription.isPresent() ? Collections.<DatabasePacket>singletonList(rowDescription.get()) : Collections.<DatabasePacket>emptyList();
     }
 }
@@ -17,22 +17,85 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.execute;
 
-import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import lombok.Getter;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.ConnectionScopePortalRegistry;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 
 /**
  * Command execute executor for PostgreSQL.
  *
+ * <p>
+ * Query data of portal are fetched until max rows of execute command reached, then the portal is suspended and kept open for next execute command.
+ * Portal is closed after all query data are fetched.
+ * </p>
+ *
  * @author zhangyonglun
  * @author zhangliang
  */
-public final class PostgreSQLComExecuteExecutor implements CommandExecutor {
+public final class PostgreSQLComExecuteExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLComExecutePacket packet;
+    
+    private final ConnectionScopePortalRegistry portalRegistry;
+    
+    private volatile PostgreSQLPortal portal;
+    
+    private int fetchedRows;
+    
+    @Getter
+    private volatile boolean suspended;
+    
+    public PostgreSQLComExecuteExecutor(final PostgreSQLComExecutePacket packet, final BackendConnection backendConnection) {
+        this.packet = packet;
+        portalRegistry = PostgreSQLPortalRegistry.getInstance().get(backendConnection.getConnectionId());
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        portal = portalRegistry.getPortal(packet.getPortal());
+        if (null == portal) {
+            return Collections.<DatabasePacket>singletonList(new PostgreSQLErrorResponsePacket());
+        }
+        if (portal.isQuery()) {
+            return Collections.emptyList();
+        }
+        portalRegistry.close(packet.getPortal());
+        return Collections.<DatabasePacket>singletonList(new PostgreSQLCommandCompletePacket());
+    }
+    
+    @Override
+    public boolean isQuery() {
+        return null != portal && portal.isQuery();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (packet.getMaxRows() > 0 && fetchedRows >= packet.getMaxRows()) {
+            suspended = true;
+            return false;
+        }
+        if (portal.next()) {
+            fetchedRows++;
+            return true;
+        }
+        portalRegistry.close(packet.getPortal());
+        return false;
+    }
     
     @Override
-    public Collection<DatabasePacket> execute() {
-        return Collections.emptyList();
+    public PostgreSQLPacket getQueryData() throws SQLException {
+        return portal.getQueryData();
     }
 }
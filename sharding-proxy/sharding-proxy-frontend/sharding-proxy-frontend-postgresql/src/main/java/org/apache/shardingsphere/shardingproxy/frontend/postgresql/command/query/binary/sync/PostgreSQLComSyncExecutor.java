@@ -17,22 +17,38 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.sync;
 
-import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.FlushCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 
 /**
  * Command sync executor for PostgreSQL.
  *
+ * <p>
+ * Portals are closed by sync command out of transaction, and kept open in transaction for subsequent execute commands.
+ * Ready for query packet is flushed immediately, because packets of extended query are not flushed per command packet.
+ * </p>
+ *
  * @author zhangyonglun
  * @author zhangliang
  */
-public final class PostgreSQLComSyncExecutor implements CommandExecutor {
+@RequiredArgsConstructor
+public final class PostgreSQLComSyncExecutor implements FlushCommandExecutor {
+    
+    private final BackendConnection backendConnection;
     
     @Override
-    public Collection<DatabasePacket> execute() {
-        return Collections.emptyList();
+    public Collection<DatabasePacket> execute() throws SQLException {
+        if (!backendConnection.getStateHandler().isInTransaction()) {
+            PostgreSQLPortalRegistry.getInstance().get(backendConnection.getConnectionId()).closeAll();
+        }
+        return Collections.<DatabasePacket>singletonList(new PostgreSQLReadyForQueryPacket());
     }
 }
@@ -29,6 +29,8 @@ import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendH
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandlerFactory;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.ConnectionScopePortalRegistry;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.PostgreSQLColumnDescription;
@@ -47,25 +49,31 @@ import java.util.List;
 /**
  * Command query executor for PostgreSQL.
  *
+ * <p>Portals do not survive end of transaction, so they are closed after query out of transaction, such as commit or rollback.</p>
+ *
  * @author zhangyonglun
  * @author zhangliang
  */
 public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
     
+    private final BackendConnection backendConnection;
+    
     private final TextProtocolBackendHandler textProtocolBackendHandler;
     
     private volatile boolean isQuery;
     
     public PostgreSQLComQueryExecutor(final PostgreSQLComQueryPacket comQueryPacket, final BackendConnection backendConnection) {
+        this.backendConnection = backendConnection;
         textProtocolBackendHandler = TextProtocolBackendHandlerFactory.newInstance(DatabaseTypes.getActualDatabaseType("PostgreSQL"), comQueryPacket.getSql(), backendConnection);
     }
     
     @Override
-    public Collection<DatabasePacket> execute() {
+    public Collection<DatabasePacket> execute() throws SQLException {
         if (ShardingProxyContext.getInstance().isCircuitBreak()) {
             return Collections.<DatabasePacket>singletonList(new PostgreSQLErrorResponsePacket());
         }
         BackendResponse backendResponse = textProtocolBackendHandler.execute();
+        closePortalsIfTransactionEnded();
         if (backendResponse instanceof ErrorResponse) {
             return Collections.<DatabasePacket>singletonList(createErrorPacket((ErrorResponse) backendResponse));
         }
@@ -76,6 +84,13 @@ public final class PostgreSQLComQueryExecutor implements QueryCommandExecutor {
         return result.isPresent() ? Collections.<DatabasePacket>singletonList(result.get()) : Collections.<DatabasePacket>emptyList();
     }
     
+    private void closePortalsIfTransactionEnded() throws SQLException {
+        ConnectionScopePortalRegistry portalRegistry = PostgreSQLPortalRegistry.getInstance().get(backendConnection.getConnectionId());
+        if (null != portalRegistry && !backendConnection.getStateHandler().isInTransaction()) {
+            portalRegistry.closeAll();
+        }
+    }
+    
     private PostgreSQLErrorResponsePacket createErrorPacket(final ErrorResponse errorResponse) {
         return new PostgreSQLErrorResponsePacket();
     }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ConnectionScopePortalRegistryTest {
+    
+    @Mock
+    private PostgreSQLPortal portal;
+    
+    @Mock
+    private PostgreSQLPortal anotherPortal;
+    
+    private final ConnectionScopePortalRegistry portalRegistry = new ConnectionScopePortalRegistry();
+    
+    @Test
+    public void assertRegisterWithReplacedPortal() throws SQLException {
+        portalRegistry.register("", portal);
+        portalRegistry.register("", anotherPortal);
+        verify(portal).close();
+        verify(anotherPortal, never()).close();
+        assertThat(portalRegistry.getPortal(""), is(anotherPortal));
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        portalRegistry.register("", portal);
+        portalRegistry.close("");
+        verify(portal).close();
+        assertFalse(portalRegistry.hasOpenPortal());
+    }
+    
+    @Test
+    public void assertCloseAll() throws SQLException {
+        portalRegistry.register("p1", portal);
+        portalRegistry.register("p2", anotherPortal);
+        assertTrue(portalRegistry.hasOpenPortal());
+        portalRegistry.closeAll();
+        verify(portal).close();
+        verify(anotherPortal).close();
+        assertFalse(portalRegistry.hasOpenPortal());
+    }
+}
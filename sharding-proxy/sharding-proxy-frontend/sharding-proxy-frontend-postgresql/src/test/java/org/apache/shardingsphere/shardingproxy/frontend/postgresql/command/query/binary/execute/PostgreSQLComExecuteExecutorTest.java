@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.execute;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.ConnectionScopePortalRegistry;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortal;
+import org.apache.shardingsphere.shardingproxy.frontend.postgresql.command.query.binary.PostgreSQLPortalRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.generic.PostgreSQLErrorResponsePacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLComExecuteExecutorTest {
+    
+    private static final int CONNECTION_ID = 1;
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Mock
+    private PostgreSQLComExecutePacket packet;
+    
+    @Mock
+    private PostgreSQLPortal portal;
+    
+    private ConnectionScopePortalRegistry portalRegistry;
+    
+    @Before
+    public void setUp() {
+        PostgreSQLPortalRegistry.getInstance().register(CONNECTION_ID);
+        portalRegistry = PostgreSQLPortalRegistry.getInstance().get(CONNECTION_ID);
+        when(backendConnection.getConnectionId()).thenReturn(CONNECTION_ID);
+        when(packet.getPortal()).thenReturn("");
+    }
+    
+    @After
+    public void tearDown() {
+        PostgreSQLPortalRegistry.getInstance().unregister(CONNECTION_ID);
+    }
+    
+    @Test
+    public void assertExecuteWithMaxRows() throws SQLException {
+        when(packet.getMaxRows()).thenReturn(2);
+        when(portal.isQuery()).thenReturn(true);
+        when(portal.next()).thenReturn(true);
+        portalRegistry.register("", portal);
+        PostgreSQLComExecuteExecutor actual = new PostgreSQLComExecuteExecutor(packet, backendConnection);
+        assertTrue(actual.execute().isEmpty());
+        assertTrue(actual.isQuery());
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertTrue(actual.isSuspended());
+        assertTrue(portalRegistry.hasOpenPortal());
+    }
+    
+    @Test
+    public void assertExecuteUntilPortalExhausted() throws SQLException {
+        when(portal.isQuery()).thenReturn(true);
+        when(portal.next()).thenReturn(true, false);
+        portalRegistry.register("", portal);
+        PostgreSQLComExecuteExecutor actual = new PostgreSQLComExecuteExecutor(packet, backendConnection);
+        assertTrue(actual.execute().isEmpty());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertFalse(actual.isSuspended());
+        assertFalse(portalRegistry.hasOpenPortal());
+        verify(portal).close();
+    }
+    
+    @Test
+    public void assertExecuteUpdate() throws SQLException {
+        portalRegistry.register("", portal);
+        PostgreSQLComExecuteExecutor actual = new PostgreSQLComExecuteExecutor(packet, backendConnection);
+        Collection<DatabasePacket> packets = actual.execute();
+        assertThat(packets.size(), is(1));
+        assertThat(packets.iterator().next(), instanceOf(PostgreSQLCommandCompletePacket.class));
+        assertFalse(actual.isQuery());
+        assertFalse(portalRegistry.hasOpenPortal());
+        verify(portal).close();
+    }
+    
+    @Test
+    public void assertExecuteWithoutPortal() throws SQLException {
+        PostgreSQLComExecuteExecutor actual = new PostgreSQLComExecuteExecutor(packet, backendConnection);
+        assertThat(actual.execute().iterator().next(), instanceOf(PostgreSQLErrorResponsePacket.class));
+        assertFalse(actual.isQuery());
+    }
+}
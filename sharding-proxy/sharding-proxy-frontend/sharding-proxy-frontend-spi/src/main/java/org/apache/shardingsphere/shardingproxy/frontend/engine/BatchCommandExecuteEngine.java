@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.engine;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
+import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
+
+import java.util.List;
+
+/**
+ * Command execute engine which can execute batchable command packets by one batch command executor.
+ *
+ * @author zhangliang
+ */
+public interface BatchCommandExecuteEngine extends CommandExecuteEngine {
+    
+    /**
+     * Judge is command packet batchable or not.
+     *
+     * <p>Batchable command packets received together are executed by one batch command executor.</p>
+     *
+     * @param type command packet type
+     * @param packet command packet
+     * @param backendConnection backend connection
+     * @return is command packet batchable or not
+     */
+    boolean isBatchable(CommandPacketType type, CommandPacket packet, BackendConnection backendConnection);
+    
+    /**
+     * Get batch command executor.
+     *
+     * @param type command packet type
+     * @param packets batchable command packets
+     * @param backendConnection backend connection
+     * @return batch command executor
+     */
+    CommandExecutor getBatchCommandExecutor(CommandPacketType type, List<CommandPacket> packets, BackendConnection backendConnection);
+}
@@ -64,6 +64,16 @@ public interface CommandExecuteEngine {
      */
     CommandExecutor getCommandExecutor(CommandPacketType type, CommandPacket packet, BackendConnection backendConnection);
     
+    /**
+     * Judge is backend connection held by subsequent commands or not.
+     *
+     * <p>Held backend connection is not closed after command executed, such as query results of suspended portal are fetched by subsequent commands.</p>
+     *
+     * @param backendConnection backend connection
+     * @return is backend connection held or not
+     */
+    boolean isBackendConnectionHeld(BackendConnection backendConnection);
+    
     /**
      * Get error packet.
      *
@@ -75,11 +85,13 @@ public interface CommandExecuteEngine {
     /**
      * Write query data.
      *
+     * <p>Writing returns without blocking when frontend channel is not writable, and should be resumed with the same progress after channel becomes writable again.</p>
+     *
      * @param context channel handler context
-     * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
-     * @param headerPackagesCount count of header packages
+     * @param progress query data writing progress
+     * @return all query data are written or not
      * @throws SQLException SQL exception
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    boolean writeQueryData(ChannelHandlerContext context, QueryCommandExecutor queryCommandExecutor, QueryDataWritingProgress progress) throws SQLException;
 }
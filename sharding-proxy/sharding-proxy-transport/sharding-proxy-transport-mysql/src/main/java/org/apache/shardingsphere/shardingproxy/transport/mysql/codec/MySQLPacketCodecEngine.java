@@ -19,6 +19,8 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
@@ -28,10 +30,24 @@ import java.util.List;
 /**
  * Database packet codec for MySQL.
  * 
+ * <p>
+ * Packet header is reserved in place and back filled after payload written, so payload is encoded without copy.
+ * Payload which is not less than 16MB is split into several packets with increasing sequence IDs,
+ * and the extra sequence IDs are carried to subsequent packets of the same response.
+ * </p>
+ * 
+ * @see <a href="https://dev.mysql.com/doc/internals/en/sending-more-than-16mbyte.html">sending more than 16MB</a>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final AttributeKey<MySQLSequenceIdOffset> SEQUENCE_ID_OFFSET = AttributeKey.valueOf("MYSQL_SEQUENCE_ID_OFFSET");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
@@ -50,11 +66,46 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.ensureWritable(HEADER_LENGTH).writerIndex(headerIndex + HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        MySQLSequenceIdOffset sequenceIdOffset = getSequenceIdOffset(context);
+        int sequenceId = sequenceIdOffset.getActualSequenceId(message.getSequenceId());
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+            return;
+        }
+        sequenceIdOffset.add(writeSplitPackets(context, sequenceId, out, headerIndex, payloadLength) - 1);
+    }
+    
+    private MySQLSequenceIdOffset getSequenceIdOffset(final ChannelHandlerContext context) {
+        Attribute<MySQLSequenceIdOffset> attribute = context.channel().attr(SEQUENCE_ID_OFFSET);
+        MySQLSequenceIdOffset result = attribute.get();
+        if (null == result) {
+            result = new MySQLSequenceIdOffset();
+            attribute.set(result);
+        }
+        return result;
+    }
+    
+    private int writeSplitPackets(final ChannelHandlerContext context, final int sequenceId, final ByteBuf out, final int headerIndex, final int payloadLength) {
+        ByteBuf payload = context.alloc().buffer(payloadLength);
+        try {
+            payload.writeBytes(out, headerIndex + HEADER_LENGTH, payloadLength);
+            out.writerIndex(headerIndex);
+            int currentSequenceId = sequenceId;
+            int packetLength;
+            do {
+                packetLength = Math.min(payload.readableBytes(), MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(packetLength);
+                out.writeByte(currentSequenceId++);
+                out.writeBytes(payload, packetLength);
+            } while (MAX_PAYLOAD_LENGTH == packetLength);
+            return currentSequenceId - sequenceId;
+        } finally {
+            payload.release();
         }
     }
     
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
+
+/**
+ * Sequence ID offset of MySQL response.
+ *
+ * <p>
+ * Packets split from large payload consume extra sequence IDs, which are not known by command executors.
+ * Offset of consumed sequence IDs is added to subsequent packets of the same response,
+ * and reset when sequence ID of packet does not increase, which means a new response begins.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class MySQLSequenceIdOffset {
+    
+    private int lastSequenceId = -1;
+    
+    private int offset;
+    
+    /**
+     * Get actual sequence ID of packet.
+     *
+     * @param sequenceId sequence ID assigned by command executor
+     * @return actual sequence ID with offset
+     */
+    int getActualSequenceId(final int sequenceId) {
+        if (sequenceId <= lastSequenceId) {
+            offset = 0;
+        }
+        lastSequenceId = sequenceId;
+        return sequenceId + offset;
+    }
+    
+    /**
+     * Add sequence IDs consumed by split packets.
+     *
+     * @param consumedSequenceIds count of consumed sequence IDs
+     */
+    void add(final int consumedSequenceIds) {
+        offset += consumedSequenceIds;
+    }
+}
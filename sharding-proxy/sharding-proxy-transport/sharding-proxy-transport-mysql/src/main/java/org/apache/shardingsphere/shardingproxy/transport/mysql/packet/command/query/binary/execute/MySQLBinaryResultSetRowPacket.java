@@ -24,6 +24,7 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacke
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -55,26 +56,25 @@ public final class MySQLBinaryResultSetRowPacket implements MySQLPacket {
     }
     
     private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(columnTypes.size(), NULL_BITMAP_OFFSET);
-        for (int columnIndex = 0; columnIndex < columnTypes.size(); columnIndex++) {
-            if (null == data.get(columnIndex)) {
-                result.setNullBit(columnIndex);
+        MySQLNullBitmap nullBitmap = new MySQLNullBitmap(columnTypes.size(), NULL_BITMAP_OFFSET);
+        int columnIndex = 0;
+        for (Object each : data) {
+            if (null == each) {
+                nullBitmap.setNullBit(columnIndex);
             }
+            columnIndex++;
+        }
+        for (int each : nullBitmap.getNullBitmap()) {
+            payload.writeInt1(each);
         }
-        return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
-        for (int i = 0; i < columnTypes.size(); i++) {
-            Object value = data.get(i);
-            if (null != value) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i)).write(payload, value);
+        Iterator<MySQLColumnType> columnTypes = this.columnTypes.iterator();
+        for (Object each : data) {
+            MySQLColumnType columnType = columnTypes.next();
+            if (null != each) {
+                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnType).write(payload, each);
             }
         }
     }
@@ -49,6 +49,8 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     
     private static final int NULL_BITMAP_OFFSET = 0;
     
+    private static final int UNKNOWN_STMT_HANDLER_ERROR_CODE = 1243;
+    
     private final int statementId;
     
     private final MySQLBinaryStatement binaryStatement;
@@ -65,10 +67,13 @@ public final class MySQLComStmtExecutePacket extends MySQLCommandPacket {
     @Getter
     private final List<Object> parameters;
     
-    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload) throws SQLException {
+    public MySQLComStmtExecutePacket(final MySQLPacketPayload payload, final int connectionId) throws SQLException {
         super(MySQLCommandPacketType.COM_STMT_EXECUTE);
         statementId = payload.readInt4();
-        binaryStatement = MySQLBinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = MySQLBinaryStatementRegistry.getInstance().get(connectionId).getBinaryStatement(statementId);
+        if (null == binaryStatement) {
+            throw new SQLException(String.format("Unknown prepared statement handler (%d) given to mysqld_stmt_execute", statementId), "HY000", UNKNOWN_STMT_HANDLER_ERROR_CODE);
+        }
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
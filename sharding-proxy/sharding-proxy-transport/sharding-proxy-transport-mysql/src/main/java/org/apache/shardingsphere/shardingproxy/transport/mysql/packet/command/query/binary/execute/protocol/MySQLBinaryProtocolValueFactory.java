@@ -22,7 +22,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.MySQLColumnType;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
@@ -33,7 +33,7 @@ import java.util.Map;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MySQLBinaryProtocolValueFactory {
     
-    private static final Map<MySQLColumnType, MySQLBinaryProtocolValue> BINARY_PROTOCOL_VALUES = new HashMap<>();
+    private static final Map<MySQLColumnType, MySQLBinaryProtocolValue> BINARY_PROTOCOL_VALUES = new EnumMap<>(MySQLColumnType.class);
     
     static {
         setStringLenencBinaryProtocolValue();
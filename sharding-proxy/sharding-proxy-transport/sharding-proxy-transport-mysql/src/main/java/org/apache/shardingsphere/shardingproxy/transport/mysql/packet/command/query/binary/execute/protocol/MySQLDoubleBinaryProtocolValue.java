@@ -34,6 +34,6 @@ public final class MySQLDoubleBinaryProtocolValue implements MySQLBinaryProtocol
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        payload.getByteBuf().writeDoubleLE(Double.parseDouble(value.toString()));
+        payload.getByteBuf().writeDoubleLE(value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(value.toString()));
     }
 }
@@ -34,6 +34,6 @@ public final class MySQLInt1BinaryProtocolValue implements MySQLBinaryProtocolVa
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        payload.writeInt1((Integer) value);
+        payload.writeInt1(value instanceof Boolean ? ((Boolean) value ? 1 : 0) : ((Number) value).intValue());
     }
 }
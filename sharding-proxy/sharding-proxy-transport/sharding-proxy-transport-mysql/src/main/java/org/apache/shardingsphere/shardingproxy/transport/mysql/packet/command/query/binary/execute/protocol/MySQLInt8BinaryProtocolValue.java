@@ -19,8 +19,6 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 
-import java.math.BigDecimal;
-
 /**
  * Binary protocol value for int8 for MySQL.
  * 
@@ -36,6 +34,6 @@ public final class MySQLInt8BinaryProtocolValue implements MySQLBinaryProtocolVa
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        payload.writeInt8(value instanceof BigDecimal ? ((BigDecimal) value).longValue() : (Long) value);
+        payload.writeInt8(((Number) value).longValue());
     }
 }
@@ -19,9 +19,9 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 
-import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Date;
 
 /**
  * Binary protocol value for time for MySQL.
@@ -31,6 +31,14 @@ import java.util.Calendar;
  */
 public final class MySQLTimeBinaryProtocolValue implements MySQLBinaryProtocolValue {
     
+    private static final ThreadLocal<Calendar> CALENDAR = new ThreadLocal<Calendar>() {
+        
+        @Override
+        protected Calendar initialValue() {
+            return Calendar.getInstance();
+        }
+    };
+    
     @Override
     public Object read(final MySQLPacketPayload payload) {
         int length = payload.readInt1();
@@ -60,12 +68,14 @@ public final class MySQLTimeBinaryProtocolValue implements MySQLBinaryProtocolVa
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTimeInMillis(((Time) value).getTime());
+        long time = ((Date) value).getTime();
+        Calendar calendar = CALENDAR.get();
+        calendar.setTimeInMillis(time);
         int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
         int minutes = calendar.get(Calendar.MINUTE);
         int seconds = calendar.get(Calendar.SECOND);
-        int nanos = new Timestamp(calendar.getTimeInMillis()).getNanos();
+        int millis = (int) (time % 1000);
+        int nanos = (millis < 0 ? millis + 1000 : millis) * 1000000;
         boolean isTimeAbsent = 0 == hourOfDay && 0 == minutes && 0 == seconds;
         boolean isNanosAbsent = 0 == nanos;
         if (isTimeAbsent && isNanosAbsent) {
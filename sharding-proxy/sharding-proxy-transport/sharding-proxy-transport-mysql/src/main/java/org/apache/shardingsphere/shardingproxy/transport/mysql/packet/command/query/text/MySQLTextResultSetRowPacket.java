@@ -39,6 +39,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE = new byte[]{1};
+    
+    private static final byte[] FALSE = new byte[]{0};
+    
     @Getter
     private final int sequenceId;
     
@@ -57,18 +61,20 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
         for (Object each : data) {
             if (null == each) {
                 payload.writeInt1(NULL);
+            } else if (each instanceof String) {
+                payload.writeStringLenenc((String) each);
+            } else if (each instanceof Integer || each instanceof Long || each instanceof Short || each instanceof Byte) {
+                payload.writeIntegerStringLenenc(((Number) each).longValue());
+            } else if (each instanceof BigDecimal) {
+                payload.writeDecimalStringLenenc((BigDecimal) each);
+            } else if (each instanceof Timestamp) {
+                payload.writeTimestampStringLenenc((Timestamp) each);
+            } else if (each instanceof byte[]) {
+                payload.writeBytesLenenc((byte[]) each);
+            } else if (each instanceof Boolean) {
+                payload.writeBytesLenenc((Boolean) each ? TRUE : FALSE);
             } else {
-                if (each instanceof byte[]) {
-                    payload.writeBytesLenenc((byte[]) each);
-                } else if (each instanceof Timestamp) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
-                } else if (each instanceof BigDecimal) {
-                    payload.writeStringLenenc(((BigDecimal) each).toPlainString());
-                } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
-                } else {
-                    payload.writeStringLenenc(each.toString());
-                }
+                payload.writeStringLenenc(each.toString());
             }
         }
     }
@@ -43,6 +43,11 @@ public final class MySQLComQueryPacket extends MySQLCommandPacket {
         sql = payload.readStringEOF();
     }
     
+    public MySQLComQueryPacket(final String sql) {
+        super(MySQLCommandPacketType.COM_QUERY);
+        this.sql = sql;
+    }
+    
     @Override
     public void doWrite(final MySQLPacketPayload payload) {
         payload.writeStringEOF(sql);
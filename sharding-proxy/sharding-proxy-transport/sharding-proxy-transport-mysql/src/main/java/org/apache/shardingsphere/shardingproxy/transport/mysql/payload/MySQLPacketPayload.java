@@ -23,6 +23,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
 /**
  * MySQL payload operation for MySQL packet data types.
  *
@@ -36,6 +39,17 @@ import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 @Getter
 public final class MySQLPacketPayload implements PacketPayload {
     
+    private static final int TIMESTAMP_STRING_LENGTH = 19;
+    
+    private static final long[] POWERS_OF_TEN = new long[19];
+    
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+    
     private final ByteBuf byteBuf;
     
     /**
@@ -263,8 +277,9 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
     }
     
     /**
@@ -281,6 +296,119 @@ public final class MySQLPacketPayload implements PacketPayload {
         byteBuf.writeBytes(value);
     }
     
+    /**
+     * Write lenenc string of integer value to byte buffers.
+     * 
+     * <p>Digits are written into byte buffers directly without intermediate string.</p>
+     *
+     * @param value integer value
+     */
+    public void writeIntegerStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(String.valueOf(value));
+            return;
+        }
+        long absValue = Math.abs(value);
+        int length = getDigitCount(absValue) + (value < 0 ? 1 : 0);
+        byteBuf.writeByte(length);
+        byteBuf.ensureWritable(length);
+        int endIndex = byteBuf.writerIndex() + length;
+        writeDigits(endIndex, absValue, 0);
+        if (value < 0) {
+            byteBuf.setByte(byteBuf.writerIndex(), '-');
+        }
+        byteBuf.writerIndex(endIndex);
+    }
+    
+    /**
+     * Write lenenc string of decimal value to byte buffers.
+     * 
+     * <p>Decimal whose unscaled value fits in long is written into byte buffers directly as plain string, others use {@code BigDecimal.toPlainString()}.</p>
+     *
+     * @param value decimal value
+     */
+    public void writeDecimalStringLenenc(final BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0 || value.unscaledValue().bitLength() > 62) {
+            writeStringLenenc(value.toPlainString());
+            return;
+        }
+        if (0 == scale) {
+            writeIntegerStringLenenc(value.longValue());
+            return;
+        }
+        long unscaledValue = value.unscaledValue().longValue();
+        long absValue = Math.abs(unscaledValue);
+        int length = Math.max(getDigitCount(absValue), scale + 1) + 1 + (unscaledValue < 0 ? 1 : 0);
+        if (length >= 0xfb) {
+            writeStringLenenc(value.toPlainString());
+            return;
+        }
+        byteBuf.writeByte(length);
+        byteBuf.ensureWritable(length);
+        int endIndex = byteBuf.writerIndex() + length;
+        boolean isPureFraction = scale >= POWERS_OF_TEN.length;
+        int index = writeDigits(endIndex, isPureFraction ? absValue : absValue % POWERS_OF_TEN[scale], scale);
+        byteBuf.setByte(--index, '.');
+        writeDigits(index, isPureFraction ? 0 : absValue / POWERS_OF_TEN[scale], 0);
+        if (unscaledValue < 0) {
+            byteBuf.setByte(byteBuf.writerIndex(), '-');
+        }
+        byteBuf.writerIndex(endIndex);
+    }
+    
+    /**
+     * Write lenenc string of timestamp value to byte buffers.
+     * 
+     * <p>Timestamp is written as {@code yyyy-MM-dd HH:mm:ss} without fractional seconds.</p>
+     *
+     * @param value timestamp value
+     */
+    @SuppressWarnings("deprecation")
+    public void writeTimestampStringLenenc(final Timestamp value) {
+        int year = value.getYear() + 1900;
+        if (year < 0 || year > 9999) {
+            String timestamp = value.toString();
+            writeStringLenenc(timestamp.substring(0, timestamp.lastIndexOf('.')));
+            return;
+        }
+        byteBuf.writeByte(TIMESTAMP_STRING_LENGTH);
+        byteBuf.ensureWritable(TIMESTAMP_STRING_LENGTH);
+        int index = byteBuf.writerIndex();
+        writeDigits(index + 4, year, 4);
+        byteBuf.setByte(index + 4, '-');
+        writeDigits(index + 7, value.getMonth() + 1, 2);
+        byteBuf.setByte(index + 7, '-');
+        writeDigits(index + 10, value.getDate(), 2);
+        byteBuf.setByte(index + 10, ' ');
+        writeDigits(index + 13, value.getHours(), 2);
+        byteBuf.setByte(index + 13, ':');
+        writeDigits(index + 16, value.getMinutes(), 2);
+        byteBuf.setByte(index + 16, ':');
+        writeDigits(index + 19, value.getSeconds(), 2);
+        byteBuf.writerIndex(index + TIMESTAMP_STRING_LENGTH);
+    }
+    
+    private int getDigitCount(final long absValue) {
+        int result = 1;
+        while (result < POWERS_OF_TEN.length && absValue >= POWERS_OF_TEN[result]) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int writeDigits(final int endIndex, final long absValue, final int minDigits) {
+        int result = endIndex;
+        long remaining = absValue;
+        int digits = 0;
+        do {
+            byteBuf.setByte(--result, '0' + (int) (remaining % 10));
+            remaining /= 10;
+            digits++;
+        } while (remaining > 0 || digits < minDigits);
+        return result;
+    }
+    
     /**
      * Read fixed length string from byte buffers.
      * 
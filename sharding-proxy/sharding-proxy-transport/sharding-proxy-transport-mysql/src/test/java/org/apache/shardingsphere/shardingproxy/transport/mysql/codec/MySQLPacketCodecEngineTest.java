@@ -18,13 +18,16 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -35,8 +38,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -79,22 +80,76 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixedLengthPacket(1, 50), out);
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 1));
+        assertThat(out.readableBytes(), is(50));
+    }
+    
+    @Test
+    public void assertEncodeWithLargePacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixedLengthPacket(1, 0xffffff + 10), out);
+        assertThat(out.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(out.readByte(), is((byte) 1));
+        out.skipBytes(0xffffff);
+        assertThat(out.readMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 2));
+        assertThat(out.readableBytes(), is(10));
+    }
+    
+    @Test
+    public void assertEncodeWithPacketOfMaxPayloadLength() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixedLengthPacket(3, 0xffffff), out);
+        assertThat(out.readUnsignedMediumLE(), is(0xffffff));
+        assertThat(out.readByte(), is((byte) 3));
+        out.skipBytes(0xffffff);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readByte(), is((byte) 4));
+        assertFalse(out.isReadable());
+    }
+    
+    @Test
+    public void assertEncodeWithPacketAfterLargePacket() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf out = Unpooled.buffer();
+        codecEngine.encode(context, new FixedLengthPacket(2, 0xffffff + 10), out);
+        codecEngine.encode(context, new FixedLengthPacket(3, 5), out);
+        codecEngine.encode(context, new FixedLengthPacket(1, 5), out);
+        out.skipBytes(4 + 0xffffff + 4 + 10);
+        assertThat(out.readMediumLE(), is(5));
+        assertThat(out.readByte(), is((byte) 4));
+        out.skipBytes(5);
+        assertThat(out.readMediumLE(), is(5));
+        assertThat(out.readByte(), is((byte) 1));
+        assertThat(out.readableBytes(), is(5));
     }
     
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf).getByteBuf(), is(byteBuf));
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class FixedLengthPacket implements MySQLPacket {
+        
+        private final int sequenceId;
+        
+        private final int payloadLength;
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            payload.getByteBuf().writeZero(payloadLength);
+        }
+    }
 }
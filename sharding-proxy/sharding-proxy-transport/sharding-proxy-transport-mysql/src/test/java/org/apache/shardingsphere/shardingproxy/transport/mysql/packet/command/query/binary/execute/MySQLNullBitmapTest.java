@@ -46,4 +46,14 @@ public final class MySQLNullBitmapTest {
         actual.setNullBit(0);
         assertTrue(actual.isNullParameter(0));
     }
+    
+    @Test
+    public void assertSetNullBitForMultipleColumns() {
+        MySQLNullBitmap actual = new MySQLNullBitmap(8, 2);
+        actual.setNullBit(0);
+        actual.setNullBit(1);
+        assertTrue(actual.isNullParameter(0));
+        assertTrue(actual.isNullParameter(1));
+        assertFalse(actual.isNullParameter(2));
+    }
 }
@@ -45,4 +45,10 @@ public final class MySQLInt4BinaryProtocolValueTest {
         new MySQLInt4BinaryProtocolValue().write(payload, 1);
         verify(payload).writeInt4(1);
     }
+    
+    @Test
+    public void assertWriteWithLong() {
+        new MySQLInt4BinaryProtocolValue().write(payload, 1L);
+        verify(payload).writeInt4(1);
+    }
 }
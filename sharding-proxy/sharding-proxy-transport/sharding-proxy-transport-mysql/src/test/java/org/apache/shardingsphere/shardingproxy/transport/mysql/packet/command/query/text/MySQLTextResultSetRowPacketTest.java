@@ -50,12 +50,15 @@ public final class MySQLTextResultSetRowPacketTest {
     
     @Test
     public void assertWrite() {
-        long now = System.currentTimeMillis();
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.<Object>asList(null, "value", BigDecimal.ONE, new byte[] {}, new Timestamp(now)));
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(1, Arrays.<Object>asList(null, "value", BigDecimal.ONE, new byte[] {}, timestamp, 10, 20L, true));
         actual.write(payload);
         verify(payload).writeInt1(0xfb);
         verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc((new Timestamp(now)).toString().split("\\.")[0]);
+        verify(payload).writeDecimalStringLenenc(BigDecimal.ONE);
+        verify(payload).writeTimestampStringLenenc(timestamp);
+        verify(payload).writeIntegerStringLenenc(10L);
+        verify(payload).writeIntegerStringLenenc(20L);
+        verify(payload).writeBytesLenenc(new byte[] {1});
     }
 }
@@ -43,6 +43,14 @@ public final class MySQLComQueryPacketTest {
         assertThat(actual.getSql(), is("SELECT id FROM tbl"));
     }
     
+    @Test
+    public void assertNewWithSQL() {
+        MySQLComQueryPacket actual = new MySQLComQueryPacket("SELECT id FROM tbl");
+        actual.write(payload);
+        verify(payload).writeInt1(MySQLCommandPacketType.COM_QUERY.getValue());
+        verify(payload).writeStringEOF("SELECT id FROM tbl");
+    }
+    
     @Test
     public void assertWrite() {
         when(payload.readStringEOF()).thenReturn("SELECT id FROM tbl");
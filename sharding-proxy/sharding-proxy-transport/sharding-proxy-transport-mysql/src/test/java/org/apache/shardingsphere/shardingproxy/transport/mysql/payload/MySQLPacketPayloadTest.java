@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.times;
@@ -203,6 +207,38 @@ public final class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    public void assertWriteIntegerStringLenenc() {
+        assertThat(writeIntegerStringLenenc(0L), is("0"));
+        assertThat(writeIntegerStringLenenc(-1024L), is("-1024"));
+        assertThat(writeIntegerStringLenenc(Long.MAX_VALUE), is(String.valueOf(Long.MAX_VALUE)));
+        assertThat(writeIntegerStringLenenc(Long.MIN_VALUE), is(String.valueOf(Long.MIN_VALUE)));
+    }
+    
+    private String writeIntegerStringLenenc(final long value) {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+        payload.writeIntegerStringLenenc(value);
+        return payload.readStringLenenc();
+    }
+    
+    @Test
+    public void assertWriteDecimalStringLenenc() {
+        for (String each : new String[] {"0", "1.50", "-0.001", "-123.456", "0.0000000000000000000000012", "1E+3", "123456789012345678901234567890.12"}) {
+            BigDecimal value = new BigDecimal(each);
+            MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+            payload.writeDecimalStringLenenc(value);
+            assertThat(payload.readStringLenenc(), is(value.toPlainString()));
+        }
+    }
+    
+    @Test
+    public void assertWriteTimestampStringLenenc() {
+        Timestamp timestamp = Timestamp.valueOf("2019-08-01 09:05:03.123456");
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer());
+        payload.writeTimestampStringLenenc(timestamp);
+        assertThat(payload.readStringLenenc(), is("2019-08-01 09:05:03"));
+    }
+    
     @Test
     public void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf).readStringFix(0), is(""));
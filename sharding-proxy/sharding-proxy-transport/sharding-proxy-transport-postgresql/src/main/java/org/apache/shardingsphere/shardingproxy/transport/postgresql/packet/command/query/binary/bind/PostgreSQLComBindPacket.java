@@ -42,6 +42,8 @@ import java.util.List;
 @ToString
 public final class PostgreSQLComBindPacket extends PostgreSQLCommandPacket {
     
+    private final String portal;
+    
     private final String statementId;
     
     private final String sql;
@@ -52,7 +54,7 @@ public final class PostgreSQLComBindPacket extends PostgreSQLCommandPacket {
     
     public PostgreSQLComBindPacket(final PostgreSQLPacketPayload payload, final int connectionId) throws SQLException {
         payload.readInt4();
-        payload.readStringNul();
+        portal = payload.readStringNul();
         statementId = payload.readStringNul();
         int parameterFormatsLength = payload.readInt2();
         for (int i = 0; i < parameterFormatsLength; i++) {
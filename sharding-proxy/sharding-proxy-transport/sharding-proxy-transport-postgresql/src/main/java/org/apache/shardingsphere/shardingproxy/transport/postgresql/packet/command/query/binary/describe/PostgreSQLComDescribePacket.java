@@ -30,10 +30,23 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.Post
 @Getter
 public final class PostgreSQLComDescribePacket extends PostgreSQLCommandPacket {
     
+    private final char type;
+    
+    private final String name;
+    
     public PostgreSQLComDescribePacket(final PostgreSQLPacketPayload payload) {
         payload.readInt4();
-        payload.readInt1();
-        payload.readStringNul();
+        type = (char) payload.readInt1();
+        name = payload.readStringNul();
+    }
+    
+    /**
+     * Judge is describing portal or not.
+     *
+     * @return is describing portal or not
+     */
+    public boolean isPortal() {
+        return 'P' == type;
     }
     
     @Override
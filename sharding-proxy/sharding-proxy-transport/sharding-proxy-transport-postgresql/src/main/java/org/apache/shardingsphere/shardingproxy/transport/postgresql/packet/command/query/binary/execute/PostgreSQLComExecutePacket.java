@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.query.binary.execute;
 
+import lombok.Getter;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.PostgreSQLPacketPayload;
@@ -26,12 +27,17 @@ import org.apache.shardingsphere.shardingproxy.transport.postgresql.payload.Post
  *
  * @author zhangyonglun
  */
+@Getter
 public final class PostgreSQLComExecutePacket extends PostgreSQLCommandPacket {
     
+    private final String portal;
+    
+    private final int maxRows;
+    
     public PostgreSQLComExecutePacket(final PostgreSQLPacketPayload payload) {
         payload.readInt4();
-        payload.readStringNul();
-        payload.readInt4();
+        portal = payload.readStringNul();
+        maxRows = payload.readInt4();
     }
     
     @Override